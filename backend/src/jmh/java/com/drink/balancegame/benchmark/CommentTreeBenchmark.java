@@ -0,0 +1,94 @@
+package com.drink.balancegame.benchmark;
+
+import com.drink.balancegame.dto.CommentDto;
+import com.drink.balancegame.entity.BalanceGame;
+import com.drink.balancegame.entity.Comment;
+import com.drink.balancegame.entity.User;
+import com.drink.balancegame.repository.CommentRepository;
+import com.drink.balancegame.repository.LikeRepository;
+import com.drink.balancegame.repository.VoteRepository;
+import com.drink.balancegame.service.DtoConversionService;
+import com.drink.balancegame.service.ViewCountBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 트리 변환 벤치마크 (부모 댓글 + 답글 -> CommentDto 트리)
+ * 답글 그룹핑, 좋아요 수 Map 변환, 좋아요 여부 Set 구성까지 포함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommentTreeBenchmark {
+
+    private static final Long USER_ID = 1L;
+
+    @Param({"10", "100"})
+    public int parentCount;
+
+    @Param({"5"})
+    public int repliesPerParent;
+
+    private DtoConversionService dtoConversionService;
+    private List<Comment> parents;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        User author = User.builder().id(USER_ID).username("author").nickname("작성자").build();
+        BalanceGame game = BalanceGame.builder().id(1L).title("치킨 vs 피자").author(author).build();
+
+        parents = new ArrayList<>(parentCount);
+        List<Comment> replies = new ArrayList<>(parentCount * repliesPerParent);
+        List<Object[]> likeRows = new ArrayList<>();
+        long id = 1;
+        for (int p = 0; p < parentCount; p++) {
+            Comment parent = comment(id++, null, author, game, now);
+            parents.add(parent);
+            for (int r = 0; r < repliesPerParent; r++) {
+                replies.add(comment(id++, parent, author, game, now));
+            }
+        }
+        for (long commentId = 1; commentId < id; commentId++) {
+            likeRows.add(new Object[]{commentId, commentId % 7 + 1, commentId % 4 == 0 ? 1L : 0L});
+        }
+
+        CommentRepository commentRepository = RepositoryStubs.stub(CommentRepository.class, Map.of(
+                "findByParentCommentIdIn", args -> replies));
+        LikeRepository likeRepository = RepositoryStubs.stub(LikeRepository.class, Map.of(
+                "countAndLikedByCommentIdInRaw", args -> likeRows));
+        VoteRepository voteRepository = RepositoryStubs.stub(VoteRepository.class, Map.of());
+        dtoConversionService = new DtoConversionService(voteRepository, commentRepository, likeRepository,
+                new ViewCountBuffer(null, null, null));
+    }
+
+    @Benchmark
+    public List<CommentDto> commentTree() {
+        return dtoConversionService.convertToCommentDtosWithReplies(parents, USER_ID);
+    }
+
+    private static Comment comment(long id, Comment parent, User author, BalanceGame game, LocalDateTime now) {
+        return Comment.builder()
+                .id(id)
+                .content("저는 A가 더 좋은 것 같아요! " + id)
+                .parentComment(parent)
+                .depth(parent != null ? 1 : 0)
+                .author(author)
+                .balanceGame(game)
+                .createdAt(now.minusMinutes(id))
+                .updatedAt(now)
+                .build();
+    }
+}
@@ -0,0 +1,116 @@
+package com.drink.balancegame.benchmark;
+
+import com.drink.balancegame.dto.BalanceGameDto;
+import com.drink.balancegame.dto.GameSummaryRow;
+import com.drink.balancegame.entity.BalanceGame;
+import com.drink.balancegame.entity.User;
+import com.drink.balancegame.entity.Vote;
+import com.drink.balancegame.repository.CommentRepository;
+import com.drink.balancegame.repository.LikeRepository;
+import com.drink.balancegame.repository.VoteRepository;
+import com.drink.balancegame.service.DtoConversionService;
+import com.drink.balancegame.service.ViewCountBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임 목록 DTO 조립 벤치마크 (10/100/1000개 페이지)
+ * - entityPage: 엔티티 목록 + 배치 조회 결과(Object[]) -> BalanceGameDto (로그인 사용자 기준 좋아요/투표 여부 포함)
+ * - summaryRows: 요약 행(GameSummaryRow) -> BalanceGameDto (목록 API 경로)
+ * - voteStatsMap: VoteRepository.getVoteStatsByGameIds의 Object[] -> Map 변환
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DtoConversionBenchmark {
+
+    private static final Long USER_ID = 1L;
+
+    @Param({"10", "100", "1000"})
+    public int pageSize;
+
+    private DtoConversionService dtoConversionService;
+    private VoteRepository voteRepository;
+    private List<BalanceGame> games;
+    private List<GameSummaryRow> rows;
+    private List<Long> gameIds;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        User author = User.builder().id(USER_ID).username("author").nickname("작성자").build();
+
+        games = new ArrayList<>(pageSize);
+        rows = new ArrayList<>(pageSize);
+        gameIds = new ArrayList<>(pageSize);
+        List<Object[]> likeCounts = new ArrayList<>();
+        List<Object[]> commentCounts = new ArrayList<>();
+        List<Object[]> voteStats = new ArrayList<>();
+        List<Object[]> userVotes = new ArrayList<>();
+        List<Long> likedGameIds = new ArrayList<>();
+        for (long id = 1; id <= pageSize; id++) {
+            games.add(BalanceGame.builder()
+                    .id(id)
+                    .title("치킨 vs 피자 " + id)
+                    .description("영원한 고민! 둘 중 하나만 평생 먹을 수 있다면?")
+                    .optionA("치킨")
+                    .optionB("피자")
+                    .viewCount((int) id * 7)
+                    .author(author)
+                    .createdAt(now.minusMinutes(id))
+                    .updatedAt(now)
+                    .build());
+            rows.add(new GameSummaryRow(id, "치킨 vs 피자 " + id, "치킨", "피자", (int) id * 7, now.minusMinutes(id), now,
+                    USER_ID, "author", "작성자", id % 13, id % 31, id % 17, id % 5));
+            gameIds.add(id);
+            likeCounts.add(new Object[]{id, id % 13});
+            commentCounts.add(new Object[]{id, id % 5});
+            voteStats.add(new Object[]{id, id % 31, id % 17, id % 31 + id % 17});
+            if (id % 3 == 0) {
+                userVotes.add(new Object[]{id, Vote.VoteOption.A});
+                likedGameIds.add(id);
+            }
+        }
+
+        voteRepository = RepositoryStubs.stub(VoteRepository.class, Map.of(
+                "getVoteStatsByGameIdsRaw", args -> voteStats,
+                "findUserVotesByGameIdsRaw", args -> userVotes));
+        CommentRepository commentRepository = RepositoryStubs.stub(CommentRepository.class, Map.of(
+                "countByBalanceGameIdInRaw", args -> commentCounts));
+        LikeRepository likeRepository = RepositoryStubs.stub(LikeRepository.class, Map.of(
+                "countByBalanceGameIdInRaw", args -> likeCounts,
+                "findLikedGameIdsByUserIdAndGameIdIn", args -> likedGameIds));
+        ViewCountBuffer viewCountBuffer = new ViewCountBuffer(null, null, null);
+        dtoConversionService = new DtoConversionService(voteRepository, commentRepository, likeRepository, viewCountBuffer);
+    }
+
+    @Benchmark
+    public List<BalanceGameDto> entityPage() {
+        return dtoConversionService.convertToBalanceGameDtos(games, USER_ID);
+    }
+
+    @Benchmark
+    public void summaryRows(Blackhole blackhole) {
+        for (GameSummaryRow row : rows) {
+            blackhole.consume(dtoConversionService.convertToBalanceGameDto(row));
+        }
+    }
+
+    @Benchmark
+    public Map<Long, DtoConversionService.VoteStats> voteStatsMap() {
+        return voteRepository.getVoteStatsByGameIds(gameIds);
+    }
+}
@@ -0,0 +1,66 @@
+package com.drink.balancegame.benchmark;
+
+import com.drink.balancegame.security.JwtTokenProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 생성/검증 벤치마크
+ * - create: 토큰 생성 (HS256 서명)
+ * - validateUncached: 서명 검증 캐시가 없는 상태의 검증 + 사용자 ID 추출 (요청마다 실제 파싱)
+ * - validateCached: 검증 캐시 적중 시 (JwtAuthenticationFilter의 일반적인 경로)
+ * - getUserId: 캐시 적중 후 사용자 ID 추출
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenBenchmark {
+
+    private static final String SECRET = "balancegame-secret-key-for-jwt-token-generation-and-validation-should-be-at-least-256-bits";
+
+    private JwtTokenProvider cachedProvider;
+    private JwtTokenProvider uncachedProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cachedProvider = provider(2000);
+        uncachedProvider = provider(0);
+        token = cachedProvider.createToken(42L, "user42@example.com");
+        cachedProvider.getUserIdIfValid(token);
+    }
+
+    @Benchmark
+    public String create() {
+        return cachedProvider.createToken(42L, "user42@example.com");
+    }
+
+    @Benchmark
+    public Long validateUncached() {
+        return uncachedProvider.getUserIdIfValid(token);
+    }
+
+    @Benchmark
+    public Long validateCached() {
+        return cachedProvider.getUserIdIfValid(token);
+    }
+
+    @Benchmark
+    public Long getUserId() {
+        return cachedProvider.getUserId(token);
+    }
+
+    private static JwtTokenProvider provider(long verifiedCacheMaxSize) {
+        return new JwtTokenProvider(SECRET, 86400, verifiedCacheMaxSize, 600,
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+    }
+}
@@ -0,0 +1,44 @@
+package com.drink.balancegame.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 벤치마크용 리포지토리 대역
+ * 쿼리 메서드는 미리 만들어 둔 결과를 돌려주고, default 메서드(Object[] -> Map 변환 등)는 실제 구현을 그대로 실행
+ * DB 없이 변환 코드 자체의 비용만 측정하기 위해 사용
+ */
+final class RepositoryStubs {
+
+    private RepositoryStubs() {
+    }
+
+    /**
+     * 리포지토리 인터페이스 대역 생성
+     * @param type 리포지토리 인터페이스
+     * @param answers 메서드 이름 -> 결과 (인자 배열을 받음)
+     * @return 대역 인스턴스
+     */
+    static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.isDefault()) {
+                return InvocationHandler.invokeDefault(proxy, method, args);
+            }
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> type.getSimpleName() + "Stub";
+                };
+            }
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer == null) {
+                throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            }
+            return answer.apply(args);
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+}
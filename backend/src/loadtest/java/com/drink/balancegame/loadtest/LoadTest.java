@@ -0,0 +1,148 @@
+package com.drink.balancegame.loadtest;
+
+import com.drink.balancegame.BalanceGameApplication;
+import com.drink.balancegame.security.JwtTokenProvider;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * HTTP 부하 테스트 진입점 (./gradlew loadTest)
+ * 합성 데이터(FixtureLoader)가 적재된 H2 인메모리 인스턴스로 애플리케이션을 임의 포트에 띄우고,
+ * 피드/상세/투표/추천/댓글 트래픽을 고정 도착률로 보낸 뒤 엔드포인트별 처리량과 지연 분위수를 출력
+ *
+ * 설정 (시스템 속성, Gradle에서는 -Ploadtest.xxx)
+ * - loadtest.rate: 초당 요청 수 (기본 200)
+ * - loadtest.duration / loadtest.warmup: 측정/워밍업 시간(초) (기본 60 / 15)
+ * - loadtest.mix: 트래픽 구성 (기본 feed=60,detail=25,vote=8,like=4,comment=3)
+ * - loadtest.tomcat-threads: Tomcat 최대 스레드 (기본 200, 운영 설정은 4)
+ * - loadtest.users / loadtest.games: 합성 데이터 규모 (기본 1000 / 2000)
+ * - loadtest.seed: 데이터와 요청 순서 시드 (기본 42)
+ * - loadtest.max-in-flight: 동시 요청 상한, 초과분은 dropped로 집계 (기본 2000)
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        double rate = Double.parseDouble(setting("rate", "200"));
+        Duration duration = Duration.ofSeconds(Long.parseLong(setting("duration", "60")));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(setting("warmup", "15")));
+        Map<Operation, Integer> mix = Operation.parseMix(setting("mix", "feed=60,detail=25,vote=8,like=4,comment=3"));
+        String tomcatThreads = setting("tomcat-threads", "200");
+        long seed = Long.parseLong(setting("seed", "42"));
+        int maxInFlight = Integer.parseInt(setting("max-in-flight", "2000"));
+
+        // 프로파일 설정 파일보다 우선하도록 시스템 속성으로 지정 (명령행 인자로 다시 덮어쓸 수 있음)
+        Map<String, String> overrides = new LinkedHashMap<>();
+        overrides.put("server.port", "0");
+        overrides.put("server.tomcat.threads.max", tomcatThreads);
+        overrides.put("app.fixtures.enabled", "true");
+        overrides.put("app.fixtures.users", setting("users", "1000"));
+        overrides.put("app.fixtures.games", setting("games", "2000"));
+        overrides.put("app.fixtures.seed", String.valueOf(seed));
+        // 로컬 프로파일의 SQL/요청 단위 상세 로그는 측정을 왜곡하므로 끔
+        overrides.put("spring.jpa.show-sql", "false");
+        overrides.put("spring.jpa.properties.hibernate.format_sql", "false");
+        overrides.put("logging.level.com.drink.balancegame", "INFO");
+        overrides.put("logging.level.org.springframework.web", "INFO");
+        overrides.put("logging.level.org.hibernate.SQL", "INFO");
+        overrides.put("logging.level.org.hibernate.type.descriptor.sql.BasicBinder", "INFO");
+        overrides.put("app.query-budget.mode", "off");
+        overrides.forEach(System.getProperties()::putIfAbsent);
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(BalanceGameApplication.class)
+                .profiles("local")
+                .run(args);
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(4, runnable -> {
+            Thread thread = new Thread(runnable, "loadtest-client");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            Workload workload = new Workload(URI.create("http://localhost:" + port), seed, mix,
+                    loadGameIds(context), loadUsers(context), Duration.ofSeconds(30));
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(clientExecutor)
+                    .build();
+            OpenModelDriver driver = new OpenModelDriver(httpClient, workload, rate, maxInFlight);
+
+            System.out.printf("%n워밍업 %ds, 측정 %ds, 도착률 %.0f req/s, Tomcat 스레드 %s, 구성 %s%n",
+                    warmup.toSeconds(), duration.toSeconds(), rate, tomcatThreads, mix);
+            driver.run(warmup, false);
+            Duration elapsed = driver.run(duration, true);
+            printReport(driver.stats(), elapsed);
+        } finally {
+            clientExecutor.shutdownNow();
+            SpringApplication.exit(context);
+        }
+    }
+
+    private static List<Long> loadGameIds(ConfigurableApplicationContext context) {
+        return context.getBean(JdbcTemplate.class).queryForList("SELECT id FROM balance_games ORDER BY id", Long.class);
+    }
+
+    /**
+     * 부하를 보낼 사용자와 JWT (서버와 같은 키로 미리 발급)
+     */
+    private static List<Workload.LoadTestUser> loadUsers(ConfigurableApplicationContext context) {
+        JwtTokenProvider jwtTokenProvider = context.getBean(JwtTokenProvider.class);
+        return context.getBean(JdbcTemplate.class).query(
+                "SELECT id, email FROM users WHERE deleted_at IS NULL ORDER BY id",
+                (rs, rowNum) -> new Workload.LoadTestUser(rs.getLong("id"),
+                        jwtTokenProvider.createToken(rs.getLong("id"), rs.getString("email"))));
+    }
+
+    private static void printReport(Map<Operation, OpenModelDriver.EndpointStats> stats, Duration elapsed) {
+        double seconds = elapsed.toNanos() / 1e9;
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        long totalDropped = 0;
+
+        System.out.printf("%n%-8s %9s %9s %7s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "req/s", "errors", "dropped", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        for (Map.Entry<Operation, OpenModelDriver.EndpointStats> entry : stats.entrySet()) {
+            Histogram histogram = entry.getValue().histogram();
+            if (histogram.getTotalCount() == 0 && entry.getValue().dropped() == 0) {
+                continue;
+            }
+            printRow(entry.getKey().name().toLowerCase(), histogram, seconds, entry.getValue().errors(), entry.getValue().dropped());
+            total.add(histogram);
+            totalErrors += entry.getValue().errors();
+            totalDropped += entry.getValue().dropped();
+        }
+        printRow("total", total, seconds, totalErrors, totalDropped);
+    }
+
+    private static void printRow(String name, Histogram histogram, double seconds, long errors, long dropped) {
+        System.out.printf("%-8s %9d %9.1f %7d %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name, histogram.getTotalCount(), histogram.getTotalCount() / seconds, errors, dropped,
+                millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static String setting(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+}
@@ -0,0 +1,121 @@
+package com.drink.balancegame.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 개방형(고정 도착률) 부하 발생기
+ * 응답을 기다리지 않고 정해진 간격마다 요청을 비동기로 보내며, 지연은 실제 전송 시각이 아닌 "보냈어야 할 시각"부터 측정
+ * 서버가 밀려도 요청 간격이 늘어나지 않으므로 대기열 지연이 분위수에 그대로 드러남 (coordinated omission 보정)
+ */
+final class OpenModelDriver {
+
+    private final HttpClient httpClient;
+    private final Workload workload;
+    private final double ratePerSecond;
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+    private final Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+
+    OpenModelDriver(HttpClient httpClient, Workload workload, double ratePerSecond, int maxInFlight) {
+        this.httpClient = httpClient;
+        this.workload = workload;
+        this.ratePerSecond = ratePerSecond;
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new EndpointStats());
+        }
+    }
+
+    /**
+     * 지정한 시간 동안 고정 도착률로 요청 발생 후 남은 응답까지 대기
+     * @param duration 부하 시간
+     * @param record false면 워밍업 (결과를 기록하지 않음)
+     * @return 실제 부하 시간 (마지막 응답까지)
+     */
+    Duration run(Duration duration, boolean record) throws InterruptedException {
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+
+        for (long i = 0; ; i++) {
+            long intended = start + (long) (i * intervalNanos);
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Operation operation = workload.next();
+            HttpRequest request = workload.request(operation);
+            EndpointStats endpoint = stats.get(operation);
+            if (!inFlight.tryAcquire()) {
+                // 동시 요청 상한 초과 - 서버가 도착률을 따라가지 못하는 상태
+                if (record) {
+                    endpoint.dropped.increment();
+                }
+                continue;
+            }
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        long latencyNanos = System.nanoTime() - intended;
+                        inFlight.release();
+                        if (record) {
+                            endpoint.record(latencyNanos, error == null && response.statusCode() < 400);
+                        }
+                    });
+        }
+
+        // 남은 응답 대기 (모든 허가를 되찾으면 진행 중인 요청이 없음)
+        if (inFlight.tryAcquire(maxInFlight, 60, TimeUnit.SECONDS)) {
+            inFlight.release(maxInFlight);
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    Map<Operation, EndpointStats> stats() {
+        return stats;
+    }
+
+    /**
+     * 엔드포인트별 결과 (지연은 마이크로초 단위 HdrHistogram)
+     */
+    static final class EndpointStats {
+        private final Recorder latency = new Recorder(3);
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+
+        void record(long latencyNanos, boolean success) {
+            latency.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+            if (!success) {
+                errors.increment();
+            }
+        }
+
+        Histogram histogram() {
+            return latency.getIntervalHistogram();
+        }
+
+        long errors() {
+            return errors.sum();
+        }
+
+        long dropped() {
+            return dropped.sum();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.drink.balancegame.loadtest;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 부하 테스트 요청 종류 (실제 트래픽 구성 단위)
+ */
+enum Operation {
+    /** 게임 목록 피드 (GET /api/balance-games) */
+    FEED,
+    /** 게임 상세 (GET /api/balance-games/{id}) */
+    DETAIL,
+    /** 투표/투표 취소 (POST /api/votes) */
+    VOTE,
+    /** 게임 추천 토글 (POST /api/balance-games/{id}/like) */
+    LIKE,
+    /** 댓글 작성 (POST /api/comments) */
+    COMMENT;
+
+    /**
+     * 트래픽 구성 파싱
+     * @param mix "feed=60,detail=25,vote=8,like=4,comment=3" 형식 (생략된 종류는 0)
+     * @return 요청 종류별 가중치
+     */
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("잘못된 트래픽 구성: " + entry);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("가중치는 0 이상이어야 합니다: " + entry);
+            }
+            weights.put(valueOf(pair[0].trim().toUpperCase(Locale.ROOT)), weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("가중치 합이 0입니다: " + mix);
+        }
+        return weights;
+    }
+}
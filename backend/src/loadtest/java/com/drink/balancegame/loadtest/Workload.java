@@ -0,0 +1,107 @@
+package com.drink.balancegame.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 요청 생성기 (트래픽 구성 가중치에 따라 다음 요청 종류와 대상 게임/사용자를 고름)
+ * 디스패처 스레드 하나에서만 호출되므로 같은 시드면 같은 요청 순서가 재현됨
+ */
+final class Workload {
+
+    private static final String[] SORTS = {"latest", "latest", "latest", "popular", "votes"};
+    private static final String[] COMMENTS = {
+            "저는 A가 더 좋은 것 같아요!",
+            "B가 훨씬 나은 선택이죠",
+            "고민이 되네요... 둘 다 좋은데",
+            "이건 취향차이인 것 같아요"
+    };
+
+    private final URI baseUri;
+    private final Random random;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+    private final List<Long> gameIds;
+    private final List<LoadTestUser> users;
+    private final int maxFeedPage;
+    private final Duration requestTimeout;
+
+    Workload(URI baseUri, long seed, Map<Operation, Integer> mix, List<Long> gameIds, List<LoadTestUser> users,
+             Duration requestTimeout) {
+        if (gameIds.isEmpty() || users.isEmpty()) {
+            throw new IllegalStateException("부하 테스트용 게임/사용자 데이터가 없습니다.");
+        }
+        this.baseUri = baseUri;
+        this.random = new Random(seed);
+        this.operations = mix.keySet().toArray(new Operation[0]);
+        this.cumulativeWeights = new int[operations.length];
+        int sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += mix.get(operations[i]);
+            cumulativeWeights[i] = sum;
+        }
+        this.totalWeight = sum;
+        this.gameIds = gameIds;
+        this.users = users;
+        this.maxFeedPage = Math.max(1, Math.min(50, gameIds.size() / 10));
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * 다음 요청 종류 (가중치 비례 선택)
+     */
+    Operation next() {
+        int pick = random.nextInt(totalWeight);
+        for (int i = 0; i < operations.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    /**
+     * 요청 종류에 맞는 HTTP 요청 생성
+     */
+    HttpRequest request(Operation operation) {
+        long gameId = gameIds.get(random.nextInt(gameIds.size()));
+        LoadTestUser user = users.get(random.nextInt(users.size()));
+        return switch (operation) {
+            case FEED -> get("/api/balance-games?page=" + random.nextInt(maxFeedPage)
+                    + "&size=10&sort=" + SORTS[random.nextInt(SORTS.length)]);
+            case DETAIL -> get("/api/balance-games/" + gameId);
+            case VOTE -> post("/api/votes?userId=" + user.id(), user,
+                    "{\"balanceGameId\":" + gameId + ",\"selectedOption\":\"" + (random.nextBoolean() ? "A" : "B") + "\"}");
+            case LIKE -> post("/api/balance-games/" + gameId + "/like?userId=" + user.id(), user, "");
+            case COMMENT -> post("/api/comments?authorId=" + user.id(), user,
+                    "{\"balanceGameId\":" + gameId + ",\"content\":\"" + COMMENTS[random.nextInt(COMMENTS.length)] + "\"}");
+        };
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(requestTimeout)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, LoadTestUser user, String json) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(requestTimeout)
+                .header("Authorization", "Bearer " + user.token())
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    /**
+     * 요청을 보내는 사용자 (ID와 미리 발급한 JWT)
+     */
+    record LoadTestUser(long id, String token) {
+    }
+}
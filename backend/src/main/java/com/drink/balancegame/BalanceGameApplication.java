@@ -3,11 +3,13 @@ package com.drink.balancegame;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaRepositories(basePackages = "com.drink.balancegame.repository")
+@EnableScheduling
 public class BalanceGameApplication {
     public static void main(String[] args) {
         SpringApplication.run(BalanceGameApplication.class, args);
     }
-}
\ No newline at end of file
+}
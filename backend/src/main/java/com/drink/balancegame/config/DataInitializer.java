@@ -11,10 +11,13 @@ import com.drink.balancegame.repository.CommentRepository;
 import com.drink.balancegame.repository.LikeRepository;
 import com.drink.balancegame.repository.UserRepository;
 import com.drink.balancegame.repository.VoteRepository;
+import com.drink.balancegame.service.GameStatsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.context.event.ApplicationReadyEvent;
-import org.springframework.context.event.EventListener;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
@@ -24,12 +27,16 @@ import java.util.List;
 import java.util.Random;
 
 /**
- * 애플리케이션 시작 시 테스트 데이터 초기화
+ * 애플리케이션 시작 시 테스트 데이터 초기화 (local/dev 프로파일에서만)
+ * ApplicationRunner로 실행되어 ApplicationReadyEvent에서 만드는 메모리 색인/리더보드에 시드 데이터가 포함됨
+ * 운영 환경에서는 실행되지 않으며, 대용량 데이터가 필요하면 FixtureLoader(app.fixtures.enabled) 사용
  */
 @Component
+@Profile({"local", "dev"})
+@Order(2)
 @RequiredArgsConstructor
 @Slf4j
-public class DataInitializer {
+public class DataInitializer implements ApplicationRunner {
     
     private final UserRepository userRepository;
     private final BalanceGameRepository balanceGameRepository;
@@ -37,18 +44,16 @@ public class DataInitializer {
     private final CommentRepository commentRepository;
     private final LikeRepository likeRepository;
     private final PasswordEncoder passwordEncoder;
+    private final GameStatsService gameStatsService;
     
     private final Random random = new Random();
     
-    @EventListener(ApplicationReadyEvent.class)
+    @Override
+    public void run(ApplicationArguments args) {
+        initializeData();
+    }
+    
     public void initializeData() {
-        // Railway 환경: 테이블 생성 대기 및 메모리 최적화
-        try {
-            Thread.sleep(2000); // Railway는 일반적으로 2초면 충분
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            return;
-        }
         try {
             // 테스트 사용자가 이미 존재하는지 확인
             if (userRepository.findByUsername("testuser").isEmpty()) {
@@ -175,6 +180,9 @@ public class DataInitializer {
         // 초기 밸런스 게임 데이터 생성
         createInitialBalanceGames();
         
+        // 시드 데이터는 리포지토리로 직접 저장되므로 게임 통계를 한 번에 집계
+        gameStatsService.backfillMissing();
+        
             log.info("데이터 초기화 완료. 총 사용자 수: {}, 총 게임 수: {}", 
                     userRepository.count(), balanceGameRepository.count());
         } catch (Exception e) {
@@ -0,0 +1,38 @@
+package com.drink.balancegame.config;
+
+import com.drink.balancegame.BalanceGameApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 용량 테스트용 합성 데이터 생성기 (./gradlew generateDataset)
+ * 웹 서버 없이 애플리케이션 컨텍스트만 띄워 FixtureLoader로 대상 DB에 적재한 뒤 종료
+ * 대상 DB는 일반 설정과 같음: PostgreSQL은 --spring.profiles.active=prod와 DATABASE_URL 등,
+ * H2는 파일 DB (--spring.datasource.url=jdbc:h2:file:./build/dataset/balancegame)
+ * 규모는 app.fixtures.* 로 지정 (예: --app.fixtures.users=1000000 --app.fixtures.games=100000 --app.fixtures.votes=10000000)
+ */
+public final class DatasetGenerator {
+
+    private DatasetGenerator() {
+    }
+
+    public static void main(String[] args) {
+        // 프로파일 설정 파일보다 우선하도록 시스템 속성으로 지정 (명령행 인자로 다시 덮어쓸 수 있음)
+        Map<String, String> overrides = new LinkedHashMap<>();
+        overrides.put("spring.main.web-application-type", "none");
+        overrides.put("app.fixtures.enabled", "true");
+        // 로컬 프로파일의 create-drop은 종료 시 적재한 스키마를 지우므로 update로 생성
+        overrides.put("spring.jpa.hibernate.ddl-auto", "update");
+        overrides.put("spring.jpa.show-sql", "false");
+        overrides.put("logging.level.org.hibernate.SQL", "INFO");
+        overrides.put("logging.level.org.hibernate.type.descriptor.sql.BasicBinder", "INFO");
+        overrides.forEach(System.getProperties()::putIfAbsent);
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(BalanceGameApplication.class).run(args);
+        System.exit(SpringApplication.exit(context));
+    }
+}
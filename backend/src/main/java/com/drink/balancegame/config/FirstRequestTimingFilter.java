@@ -0,0 +1,35 @@
+package com.drink.balancegame.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 첫 요청 시점 기록 필터
+ * JVM 시작부터 첫 요청을 받을 때까지의 시간(time-to-first-request)을 한 번만 로그로 남겨
+ * 콜드 스타트 시간을 배포 간에 비교할 수 있게 함 (이후 요청에는 플래그 확인만 수행)
+ */
+@Component
+@Slf4j
+public class FirstRequestTimingFilter extends OncePerRequestFilter {
+
+    private final AtomicBoolean logged = new AtomicBoolean();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!logged.get() && logged.compareAndSet(false, true)) {
+            log.info("첫 요청 수신 - JVM 시작 후 {}ms, 경로: {}",
+                    ManagementFactory.getRuntimeMXBean().getUptime(), request.getRequestURI());
+        }
+        filterChain.doFilter(request, response);
+    }
+}
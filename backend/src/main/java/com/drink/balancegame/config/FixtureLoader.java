@@ -0,0 +1,312 @@
+package com.drink.balancegame.config;
+
+import com.drink.balancegame.entity.BalanceGame;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.SelectableMapping;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대용량 합성 데이터 적재기 (app.fixtures.enabled=true일 때만, 모든 프로파일)
+ * balance_games가 비어 있으면 사용자/게임/투표/좋아요/댓글과 game_stats를 JDBC 배치 INSERT로 적재
+ * 엔티티와 BCrypt 인코딩을 거치지 않으므로 수백만 행도 몇 분 안에 적재되며, 적재 후 ID 시퀀스를 사용된 ID 뒤로 맞춤
+ * - 게임 인기도는 Zipf 분포: 투표/좋아요/댓글 총량을 인기 순위 가중치(1/순위^s)에 비례해 나눔
+ *   (한 게임의 투표/좋아요는 사용자 수를 넘을 수 없으므로 상위 게임은 사용자 수에서 잘림 - 잘리면 예상 적재량과 필요한 사용자 수를 경고)
+ * - 게임 생성일은 최근일수록 촘촘하고, 투표/좋아요/댓글 시각은 게임 생성 직후에 몰리도록 분포
+ * 배치마다 커밋하므로 수천만 행도 한 트랜잭션의 언두 로그를 쌓지 않음 (중간 실패 시 부분 적재된 데이터는 직접 정리)
+ * ApplicationRunner로 실행되어 ApplicationReadyEvent에서 만드는 메모리 색인/리더보드에 적재 결과가 포함됨
+ * 웹 서버 없이 적재만 하려면 DatasetGenerator 사용 (./gradlew generateDataset)
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.fixtures", name = "enabled", havingValue = "true")
+@Order(1)
+@Slf4j
+public class FixtureLoader implements ApplicationRunner {
+
+    /** JDBC 배치 하나의 행 수 */
+    private static final int BATCH_SIZE = 1000;
+
+    /** 제목/선택지에 쓰는 단어 (검색/자동완성 색인에 걸리도록 실제 단어 사용) */
+    private static final String[] WORDS = {
+            "치킨", "피자", "바다", "산", "여름", "겨울", "커피", "차", "강아지", "고양이",
+            "독서", "영화", "아침", "저녁", "버스", "지하철", "소고기", "돼지고기", "짜장면", "짬뽕",
+            "맥주", "소주", "여행", "집콕", "운동", "낮잠", "라면", "떡볶이", "아이폰", "갤럭시"
+    };
+
+    private static final String[] COMMENTS = {
+            "저는 A가 더 좋은 것 같아요!",
+            "B가 훨씬 나은 선택이죠 ㅋㅋ",
+            "고민이 되네요... 둘 다 좋은데",
+            "이건 취향차이인 것 같아요",
+            "통계가 재밌네요!"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SessionFactoryImplementor sessionFactory;
+    private final SequenceAligner sequenceAligner;
+    private final int userCount;
+    private final int gameCount;
+    private final long voteTotal;
+    private final long likeTotal;
+    private final long commentTotal;
+    private final double zipfExponent;
+    private final int days;
+    private final long seed;
+
+    public FixtureLoader(JdbcTemplate jdbcTemplate,
+                         EntityManagerFactory entityManagerFactory,
+                         SequenceAligner sequenceAligner,
+                         @Value("${app.fixtures.users:1000}") int userCount,
+                         @Value("${app.fixtures.games:2000}") int gameCount,
+                         @Value("${app.fixtures.votes:40000}") long voteTotal,
+                         @Value("${app.fixtures.likes:10000}") long likeTotal,
+                         @Value("${app.fixtures.comments:6000}") long commentTotal,
+                         @Value("${app.fixtures.zipf-exponent:1.0}") double zipfExponent,
+                         @Value("${app.fixtures.days:365}") int days,
+                         @Value("${app.fixtures.seed:42}") long seed) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.sequenceAligner = sequenceAligner;
+        this.userCount = Math.max(1, userCount);
+        this.gameCount = gameCount;
+        this.voteTotal = voteTotal;
+        this.likeTotal = likeTotal;
+        this.commentTotal = commentTotal;
+        this.zipfExponent = zipfExponent;
+        this.days = Math.max(1, days);
+        this.seed = seed;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM balance_games", Long.class);
+        if (existing != null && existing > 0) {
+            log.info("게임 데이터가 이미 존재합니다. 합성 데이터 적재를 스킵합니다.");
+            return;
+        }
+
+        long started = System.nanoTime();
+        List<BatchInsert> inserts = load();
+        sequenceAligner.align();
+
+        StringBuilder summary = new StringBuilder();
+        for (BatchInsert insert : inserts) {
+            summary.append(insert.table).append('=').append(insert.count).append(' ');
+        }
+        log.info("합성 데이터 적재 완료 - {}소요: {}ms",
+                summary, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    private List<BatchInsert> load() {
+        Random random = new Random(seed);
+        long now = System.currentTimeMillis();
+        long span = TimeUnit.DAYS.toMillis(days);
+
+        BatchInsert users = new BatchInsert("users",
+                "INSERT INTO users (id, username, email, nickname, role, provider, created_at, updated_at)"
+                        + " VALUES (?, ?, ?, ?, ?, ?, ?, ?)");
+        BatchInsert games = new BatchInsert("balance_games",
+                "INSERT INTO balance_games (id, title, description, " + column("optionA") + ", " + column("optionB")
+                        + ", view_count, author_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        BatchInsert votes = new BatchInsert("votes",
+                "INSERT INTO votes (id, selected_option, user_id, balance_game_id, created_at) VALUES (?, ?, ?, ?, ?)");
+        BatchInsert likes = new BatchInsert("likes",
+                "INSERT INTO likes (id, user_id, balance_game_id, created_at) VALUES (?, ?, ?, ?)");
+        BatchInsert comments = new BatchInsert("comments",
+                "INSERT INTO comments (id, content, depth, author_id, balance_game_id, created_at, updated_at)"
+                        + " VALUES (?, ?, 0, ?, ?, ?, ?)");
+        BatchInsert stats = new BatchInsert("game_stats",
+                "INSERT INTO game_stats (game_id, like_count, option_a_count, option_b_count, vote_count, comment_count)"
+                        + " VALUES (?, ?, ?, ?, ?, ?)");
+
+        // 사용자 (가입일은 기간 전체에 고르게)
+        long userBase = nextId("users");
+        for (int i = 0; i < userCount; i++) {
+            long id = userBase + i;
+            Timestamp joinedAt = new Timestamp(now - (long) (random.nextDouble() * span));
+            users.add(id, "fixture_user_" + id, "fixture_user_" + id + "@example.com", "사용자" + id,
+                    "USER", "GOOGLE", joinedAt, joinedAt);
+        }
+        users.flush();
+
+        // 인기 순위 (생성일과 무관하도록 무작위 배정) 와 Zipf 가중치
+        int[] ranks = shuffledRanks(random);
+        double harmonic = 0;
+        for (int rank = 1; rank <= gameCount; rank++) {
+            harmonic += Math.pow(rank, -zipfExponent);
+        }
+        if (gameCount > 0) {
+            warnIfCapped("투표", voteTotal, harmonic);
+            warnIfCapped("좋아요", likeTotal, harmonic);
+        }
+
+        // 게임 (자식 행보다 먼저 반영해 외래 키를 만족, 생성일은 최근일수록 촘촘)
+        long gameBase = nextId("balance_games");
+        long[] gameCreatedAt = new long[gameCount];
+        for (int g = 0; g < gameCount; g++) {
+            String optionA = WORDS[random.nextInt(WORDS.length)];
+            String optionB = WORDS[random.nextInt(WORDS.length)];
+            double u = random.nextDouble();
+            gameCreatedAt[g] = now - (long) (u * u * span);
+            Timestamp createdAt = new Timestamp(gameCreatedAt[g]);
+            double share = Math.pow(ranks[g], -zipfExponent) / harmonic;
+            int viewCount = (int) Math.min(Integer.MAX_VALUE, Math.round(share * voteTotal * 3) + random.nextInt(50));
+            games.add(gameBase + g, optionA + " vs " + optionB, optionA + "와 " + optionB + " 중 하나만 고른다면?",
+                    optionA, optionB, viewCount, userBase + random.nextInt(userCount), createdAt, createdAt);
+        }
+        games.flush();
+
+        // 투표/좋아요/댓글과 게임 통계 (게임마다 서로 다른 사용자가 투표/좋아요하도록 연속 구간에서 선택)
+        long voteId = nextId("votes");
+        long likeId = nextId("likes");
+        long commentId = nextId("comments");
+        for (int g = 0; g < gameCount; g++) {
+            long gameId = gameBase + g;
+            double share = Math.pow(ranks[g], -zipfExponent) / harmonic;
+            long createdAt = gameCreatedAt[g];
+
+            int voteCount = (int) Math.min(userCount, portion(voteTotal, share, random));
+            double preferA = random.nextDouble();
+            long optionACount = 0;
+            int start = random.nextInt(userCount);
+            for (int j = 0; j < voteCount; j++) {
+                boolean a = random.nextDouble() < preferA;
+                optionACount += a ? 1 : 0;
+                votes.add(voteId++, a ? "A" : "B", userBase + (start + j) % userCount, gameId,
+                        activityAt(createdAt, now, random));
+            }
+
+            int likeCount = (int) Math.min(userCount, portion(likeTotal, share, random));
+            start = random.nextInt(userCount);
+            for (int j = 0; j < likeCount; j++) {
+                likes.add(likeId++, userBase + (start + j) % userCount, gameId, activityAt(createdAt, now, random));
+            }
+
+            long commentCount = portion(commentTotal, share, random);
+            for (long j = 0; j < commentCount; j++) {
+                Timestamp at = activityAt(createdAt, now, random);
+                comments.add(commentId++, COMMENTS[random.nextInt(COMMENTS.length)],
+                        userBase + random.nextInt(userCount), gameId, at, at);
+            }
+
+            stats.add(gameId, likeCount, optionACount, voteCount - optionACount, voteCount, commentCount);
+        }
+
+        List<BatchInsert> inserts = List.of(users, games, votes, likes, comments, stats);
+        inserts.forEach(BatchInsert::flush);
+        return inserts;
+    }
+
+    /**
+     * 게임당 투표/좋아요는 사용자 수를 넘을 수 없어 1위 게임의 몫이 사용자 수보다 크면 요청한 총량보다 적게 적재됨
+     * 이때 예상 적재량과 잘리지 않는 최소 사용자 수를 경고로 남김
+     */
+    private void warnIfCapped(String kind, long total, double harmonic) {
+        long requiredUsers = (long) Math.ceil(total / harmonic);
+        if (requiredUsers <= userCount) {
+            return;
+        }
+        double expected = 0;
+        for (int rank = 1; rank <= gameCount; rank++) {
+            expected += Math.min(userCount, total * Math.pow(rank, -zipfExponent) / harmonic);
+        }
+        log.warn("합성 데이터 {} 총량이 사용자 수({}) 제한으로 잘립니다 - 요청: {}, 예상 적재: {}, 잘리지 않으려면 app.fixtures.users >= {}",
+                kind, userCount, total, Math.round(expected), requiredUsers);
+    }
+
+    /**
+     * 1..gameCount 순위를 무작위로 섞은 배열 (Fisher-Yates)
+     */
+    private int[] shuffledRanks(Random random) {
+        int[] ranks = new int[gameCount];
+        for (int i = 0; i < gameCount; i++) {
+            ranks[i] = i + 1;
+        }
+        for (int i = gameCount - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = ranks[i];
+            ranks[i] = ranks[j];
+            ranks[j] = tmp;
+        }
+        return ranks;
+    }
+
+    /**
+     * 총량 중 한 게임의 몫 (소수점은 확률적으로 올림해 총합의 기대값을 유지)
+     */
+    private static long portion(long total, double share, Random random) {
+        double expected = total * share;
+        long whole = (long) expected;
+        return whole + (random.nextDouble() < expected - whole ? 1 : 0);
+    }
+
+    /**
+     * 게임 생성 이후의 활동 시각 (생성 직후에 몰리고 시간이 지날수록 드물어짐)
+     */
+    private static Timestamp activityAt(long createdAt, long now, Random random) {
+        double u = random.nextDouble();
+        return new Timestamp(createdAt + (long) (u * u * u * (now - createdAt)));
+    }
+
+    private long nextId(String table) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        return (maxId != null ? maxId : 0L) + 1;
+    }
+
+    /**
+     * 엔티티 속성의 실제 컬럼명 (명명 전략이 정한 이름을 그대로 사용)
+     */
+    private String column(String attribute) {
+        return ((SelectableMapping) sessionFactory.getMappingMetamodel()
+                .getEntityDescriptor(BalanceGame.class)
+                .findAttributeMapping(attribute))
+                .getSelectionExpression();
+    }
+
+    /**
+     * 테이블 하나의 JDBC 배치 INSERT 버퍼
+     */
+    private final class BatchInsert {
+        private final String table;
+        private final String sql;
+        private final List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        private long count;
+
+        BatchInsert(String table, String sql) {
+            this.table = table;
+            this.sql = sql;
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+            if (rows.size() == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(sql, rows);
+                long before = count;
+                count += rows.size();
+                rows.clear();
+                if (before / 1_000_000 != count / 1_000_000) {
+                    log.info("합성 데이터 적재 중 - {} {}행", table, count);
+                }
+            }
+        }
+    }
+}
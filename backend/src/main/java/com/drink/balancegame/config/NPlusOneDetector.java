@@ -0,0 +1,110 @@
+package com.drink.balancegame.config;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * 실행 중 N+1 감지기
+ * 요청 하나에서 같은 형태의 SQL이 임계값보다 많이 실행되면 (엔드포인트, 형태)별 표본으로 기록하고,
+ * 같은 표본은 로그 간격마다 한 번만 WARN으로 남김 (지연 로딩 폭주가 로그를 뒤덮지 않도록)
+ * 표본은 /actuator/nplusone으로 조회하며, 개수 상한을 넘으면 새 표본은 버림
+ */
+@Slf4j
+public class NPlusOneDetector {
+
+    private final int threshold;
+    private final long logIntervalMillis;
+    private final int maxSamples;
+    private final Map<String, Sample> samples = new ConcurrentHashMap<>();
+
+    public NPlusOneDetector(int threshold, long logIntervalSeconds, int maxSamples) {
+        this.threshold = threshold;
+        this.logIntervalMillis = TimeUnit.SECONDS.toMillis(logIntervalSeconds);
+        this.maxSamples = maxSamples;
+    }
+
+    /**
+     * 끝난 요청의 SQL 집계 검사
+     * @param endpoint "GET /api/votes/game/{balanceGameId}" 형식의 엔드포인트
+     * @param shapes 문장 형태별 실행 횟수
+     */
+    void inspect(String endpoint, Map<String, Integer> shapes) {
+        for (Map.Entry<String, Integer> shape : shapes.entrySet()) {
+            int repeats = shape.getValue();
+            if (repeats <= threshold) {
+                continue;
+            }
+            String key = endpoint + '\n' + shape.getKey();
+            Sample sample = samples.get(key);
+            if (sample == null) {
+                if (samples.size() >= maxSamples) {
+                    continue;
+                }
+                sample = samples.computeIfAbsent(key, k -> new Sample(endpoint, shape.getKey()));
+            }
+            long now = System.currentTimeMillis();
+            sample.occurrences.incrementAndGet();
+            sample.maxRepeats.accumulate(repeats);
+            sample.lastSeen = now;
+            long lastLogged = sample.lastLogged.get();
+            if (now - lastLogged >= logIntervalMillis && sample.lastLogged.compareAndSet(lastLogged, now)) {
+                log.warn("N+1 의심 - {}: 같은 SQL {}회 실행 (임계값 {}, 누적 {}건) {}",
+                        endpoint, repeats, threshold, sample.occurrences.get(), shape.getKey());
+            }
+        }
+    }
+
+    /**
+     * 표본 목록 (최근 발생 순)
+     */
+    List<Map<String, Object>> samples() {
+        return samples.values().stream()
+                .map(Sample::snapshot)
+                .sorted(Comparator.comparing((Map<String, Object> sample) -> (Instant) sample.get("lastSeen")).reversed())
+                .toList();
+    }
+
+    int getThreshold() {
+        return threshold;
+    }
+
+    void clear() {
+        samples.clear();
+    }
+
+    /**
+     * (엔드포인트, SQL 형태) 하나의 누적 표본
+     */
+    private static final class Sample {
+        private final String endpoint;
+        private final String fingerprint;
+        private final AtomicLong occurrences = new AtomicLong();
+        private final LongAccumulator maxRepeats = new LongAccumulator(Math::max, 0);
+        private final AtomicLong lastLogged = new AtomicLong(Long.MIN_VALUE / 2);
+        private volatile long lastSeen;
+
+        private Sample(String endpoint, String fingerprint) {
+            this.endpoint = endpoint;
+            this.fingerprint = fingerprint;
+        }
+
+        private Map<String, Object> snapshot() {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("endpoint", endpoint);
+            result.put("fingerprint", fingerprint);
+            result.put("occurrences", occurrences.get());
+            result.put("maxRepeats", maxRepeats.get());
+            result.put("lastSeen", Instant.ofEpochMilli(lastSeen));
+            return result;
+        }
+    }
+}
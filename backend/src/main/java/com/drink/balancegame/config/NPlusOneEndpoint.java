@@ -0,0 +1,46 @@
+package com.drink.balancegame.config;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * N+1 의심 표본 조회 엔드포인트 (/actuator/nplusone)
+ * 엔드포인트와 SQL 형태별 발생 건수, 요청당 최대 반복 횟수, 마지막 발생 시각을 최근 순으로 반환
+ */
+@Component
+@Endpoint(id = "nplusone")
+@ConditionalOnProperty(prefix = "app.n-plus-one", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class NPlusOneEndpoint {
+
+    private final NPlusOneDetector nPlusOneDetector;
+
+    public NPlusOneEndpoint(NPlusOneDetector nPlusOneDetector) {
+        this.nPlusOneDetector = nPlusOneDetector;
+    }
+
+    /**
+     * 표본 조회
+     * @return 임계값과 표본 목록
+     */
+    @ReadOperation
+    public Map<String, Object> samples() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("threshold", nPlusOneDetector.getThreshold());
+        result.put("samples", nPlusOneDetector.samples());
+        return result;
+    }
+
+    /**
+     * 표본 초기화 (수정 배포 후 재발 여부 확인용)
+     */
+    @DeleteOperation
+    public void clear() {
+        nPlusOneDetector.clear();
+    }
+}
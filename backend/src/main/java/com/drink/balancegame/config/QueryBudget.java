@@ -0,0 +1,25 @@
+package com.drink.balancegame.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 요청 하나가 실행할 수 있는 SQL 문장 수 상한 (N+1 회귀 감지용)
+ * 목록 크기와 무관한 상수여야 하며, 모든 /api 엔드포인트가 선언해야 함
+ * 검사는 QueryBudgetTest가 담당 (요청 스레드의 모든 JDBC 문장을 2차 캐시를 비운 상태에서 세고, 초과하면 빌드 실패)
+ * 실행 중 로그 모드(app.query-budget.mode=log)는 Hibernate를 거치는 문장만 셈
+ * 메서드에 선언하면 클래스 선언보다 우선
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface QueryBudget {
+
+    /**
+     * 허용 SQL 문장 수
+     */
+    int value();
+}
@@ -0,0 +1,55 @@
+package com.drink.balancegame.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 요청 단위 SQL 집계 설정 (SQL 문장 예산 또는 N+1 감지가 켜져 있을 때만)
+ * SQL 문장 예산 - app.query-budget.mode
+ * - log: 예산을 넘은 요청을 문장 형태별 횟수와 함께 WARN 로그로 기록 (로컬 개발 기본값)
+ * - off: 검사하지 않음 (운영 기본값)
+ * 예산 초과로 빌드를 실패시키는 검사는 테스트(QueryBudgetTest)가 담당하고, 여기서는 요청을 실패시키지 않음
+ * N+1 감지 - app.n-plus-one.enabled (기본 켜짐, 운영 포함)
+ * 둘 다 꺼져 있으면 인스펙터와 인터셉터를 등록하지 않아 요청 경로에 비용이 없음
+ */
+@Configuration
+@ConditionalOnExpression("'${app.query-budget.mode:off}' != 'off' or '${app.n-plus-one.enabled:true}' == 'true'")
+public class RequestSqlConfig implements WebMvcConfigurer {
+
+    private final String budgetMode;
+    private final ObjectProvider<NPlusOneDetector> nPlusOneDetector;
+
+    public RequestSqlConfig(@Value("${app.query-budget.mode:off}") String budgetMode,
+                            ObjectProvider<NPlusOneDetector> nPlusOneDetector) {
+        this.budgetMode = budgetMode;
+        this.nPlusOneDetector = nPlusOneDetector;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer requestSqlStatementInspector() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new RequestSqlInspector());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.n-plus-one", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public NPlusOneDetector nPlusOneDetector(@Value("${app.n-plus-one.threshold:10}") int threshold,
+                                             @Value("${app.n-plus-one.log-interval-seconds:300}") long logIntervalSeconds,
+                                             @Value("${app.n-plus-one.max-samples:200}") int maxSamples) {
+        return new NPlusOneDetector(threshold, logIntervalSeconds, maxSamples);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestSqlInterceptor(
+                        !"off".equalsIgnoreCase(budgetMode), nPlusOneDetector.getIfAvailable()))
+                .addPathPatterns("/api/**");
+    }
+}
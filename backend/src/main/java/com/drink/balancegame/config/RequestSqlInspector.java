@@ -0,0 +1,110 @@
+package com.drink.balancegame.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 단위 SQL 문장 집계기 (Hibernate StatementInspector)
+ * RequestSqlInterceptor가 요청 시작 시 집계를 열고 끝날 때 닫으며, 그 사이 같은 스레드에서 준비된 문장을 형태(fingerprint)별로 셈
+ * 집계 결과는 SQL 문장 예산(@QueryBudget) 검사와 N+1 감지(NPlusOneDetector)가 함께 사용
+ * 집계가 열려 있지 않은 스레드(스케줄러, 투표 반영 큐 등)에서는 아무것도 하지 않음
+ */
+public class RequestSqlInspector implements StatementInspector {
+
+    private static final ThreadLocal<Tally> CURRENT = new ThreadLocal<>();
+
+    /**
+     * SQL -> 형태 캐시 (Hibernate가 만드는 SQL은 쿼리 계획 캐시 덕분에 종류가 한정적이므로 정규식 치환은 종류당 한 번만 수행)
+     */
+    private static final Cache<String, String> FINGERPRINTS = Caffeine.newBuilder()
+            .maximumSize(2000)
+            .build();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    @Override
+    public String inspect(String sql) {
+        Tally tally = CURRENT.get();
+        if (tally != null) {
+            tally.record(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * 현재 스레드의 집계 시작
+     * @param budget 허용 문장 수 (예산 검사를 하지 않으면 Integer.MAX_VALUE)
+     */
+    static void begin(int budget) {
+        CURRENT.set(new Tally(budget));
+    }
+
+    /**
+     * 현재 스레드의 집계 종료
+     * @return 집계 결과 (열린 집계가 없으면 null)
+     */
+    static Tally end() {
+        Tally tally = CURRENT.get();
+        CURRENT.remove();
+        return tally;
+    }
+
+    /**
+     * SQL 형태 (리터럴과 IN 목록 길이를 지워 같은 쿼리의 반복을 하나로 묶음)
+     */
+    static String fingerprint(String sql) {
+        return FINGERPRINTS.get(sql, RequestSqlInspector::normalize);
+    }
+
+    private static String normalize(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    /**
+     * 요청 하나의 집계 결과
+     */
+    static final class Tally {
+        private final int budget;
+        private final Map<String, Integer> shapes = new LinkedHashMap<>();
+        private int count;
+
+        private Tally(int budget) {
+            this.budget = budget;
+        }
+
+        private void record(String sql) {
+            count++;
+            shapes.merge(fingerprint(sql), 1, Integer::sum);
+        }
+
+        int getBudget() {
+            return budget;
+        }
+
+        int getCount() {
+            return count;
+        }
+
+        boolean isExceeded() {
+            return count > budget;
+        }
+
+        /**
+         * 문장 형태별 실행 횟수 (처음 실행된 순서)
+         */
+        Map<String, Integer> getShapes() {
+            return shapes;
+        }
+    }
+}
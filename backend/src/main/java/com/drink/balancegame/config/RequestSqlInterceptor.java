@@ -0,0 +1,85 @@
+package com.drink.balancegame.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * 요청 단위 SQL 집계 인터셉터
+ * 요청마다 RequestSqlInspector 집계를 열고, 요청이 끝나면 결과를 두 검사에 넘김
+ * - SQL 문장 예산: 핸들러의 @QueryBudget을 넘은 요청을 문장 형태별 횟수와 함께 기록 (요청은 실패시키지 않음)
+ * - N+1 감지: 같은 형태의 문장이 임계값보다 많이 반복된 요청을 표본으로 기록
+ */
+@Slf4j
+public class RequestSqlInterceptor implements AsyncHandlerInterceptor {
+
+    private final boolean budgetEnabled;
+    private final NPlusOneDetector nPlusOneDetector;
+
+    /**
+     * @param budgetEnabled SQL 문장 예산 검사 여부
+     * @param nPlusOneDetector N+1 감지기 (꺼져 있으면 null)
+     */
+    public RequestSqlInterceptor(boolean budgetEnabled, NPlusOneDetector nPlusOneDetector) {
+        this.budgetEnabled = budgetEnabled;
+        this.nPlusOneDetector = nPlusOneDetector;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            RequestSqlInspector.begin(budgetEnabled ? budgetOf(handlerMethod) : Integer.MAX_VALUE);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 비동기 처리로 넘어간 요청은 요청 스레드에서 실행한 문장까지만 집계
+        report(request, RequestSqlInspector.end());
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        report(request, RequestSqlInspector.end());
+    }
+
+    private int budgetOf(HandlerMethod handlerMethod) {
+        QueryBudget budget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+        if (budget == null) {
+            budget = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), QueryBudget.class);
+        }
+        return budget != null ? budget.value() : Integer.MAX_VALUE;
+    }
+
+    private void report(HttpServletRequest request, RequestSqlInspector.Tally tally) {
+        if (tally == null || tally.getCount() == 0) {
+            return;
+        }
+        if (nPlusOneDetector != null) {
+            nPlusOneDetector.inspect(endpointOf(request), tally.getShapes());
+        }
+        if (budgetEnabled && tally.isExceeded()) {
+            StringBuilder shapes = new StringBuilder();
+            for (Map.Entry<String, Integer> shape : tally.getShapes().entrySet()) {
+                shapes.append("\n  ").append(shape.getValue()).append("x ").append(shape.getKey());
+            }
+            log.warn("SQL 문장 예산 초과 - {} {}: {}회 (예산 {}){}",
+                    request.getMethod(), request.getRequestURI(), tally.getCount(), tally.getBudget(), shapes);
+        }
+    }
+
+    /**
+     * 경로 변수를 그대로 둔 엔드포인트 이름 (게임 ID마다 표본이 갈라지지 않도록 매핑 패턴 사용)
+     */
+    private static String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+}
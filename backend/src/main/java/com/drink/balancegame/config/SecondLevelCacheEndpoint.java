@@ -0,0 +1,61 @@
+package com.drink.balancegame.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 2차 캐시 영역별 적중률 조회 엔드포인트 (/actuator/l2cache)
+ * Hibernate 통계(generate_statistics)를 읽어 영역별 적중/실패/저장 횟수와 적중률을 반환
+ * 운영에서는 통계가 기본으로 꺼져 있으므로 HIBERNATE_STATISTICS=true로 켠 동안만 값이 쌓임 (관리자만 조회 가능)
+ */
+@Component
+@Endpoint(id = "l2cache")
+public class SecondLevelCacheEndpoint {
+
+    private final Statistics statistics;
+
+    public SecondLevelCacheEndpoint(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * 영역별 캐시 통계 조회
+     * @return 영역 이름 -> 통계
+     */
+    @ReadOperation
+    public Map<String, Object> regions() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("statisticsEnabled", statistics.isStatisticsEnabled());
+
+        Map<String, Map<String, Object>> regions = new TreeMap<>();
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(regionName);
+            if (region == null) {
+                continue;
+            }
+            long hits = region.getHitCount();
+            long misses = region.getMissCount();
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("hits", hits);
+            stats.put("misses", misses);
+            stats.put("puts", region.getPutCount());
+            stats.put("hitRatio", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+            long inMemory = region.getElementCountInMemory();
+            if (inMemory != CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN) {
+                stats.put("elementsInMemory", inMemory);
+            }
+            regions.put(regionName, stats);
+        }
+        result.put("regions", regions);
+        return result;
+    }
+}
@@ -72,6 +72,8 @@ public class SecurityConfig {
                 // Health check endpoints (for Railway)
                 .requestMatchers("/actuator/health").permitAll()
                 .requestMatchers("/actuator/info").permitAll()
+                // 진단용 엔드포인트 (캐시 통계, SQL 형태 등 내부 정보 노출)
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 .requestMatchers("/api/ping").permitAll()
                 .requestMatchers("/api/heartbeat").permitAll()
                 // Public endpoints
@@ -0,0 +1,61 @@
+package com.drink.balancegame.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.sequence.SequenceSupport;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 테이블별 ID 시퀀스 보정
+ * IDENTITY 컬럼으로 ID를 만들던 기존 DB에서는 새 시퀀스가 1부터 시작해 이미 사용된 ID와 겹치므로,
+ * 시작 시 테이블의 MAX(id)가 시퀀스 다음 값 이상이면 시퀀스를 MAX(id) + 1부터 다시 시작
+ * (pooled-lo 최적화기는 시퀀스 값을 할당 구간의 시작으로 쓰므로 이후 ID는 모두 MAX(id)보다 큼)
+ */
+@Component
+@Slf4j
+public class SequenceAligner {
+
+    /** 테이블 -> ID 시퀀스 */
+    private static final Map<String, String> SEQUENCES = new LinkedHashMap<>();
+
+    static {
+        SEQUENCES.put("users", "users_seq");
+        SEQUENCES.put("balance_games", "balance_games_seq");
+        SEQUENCES.put("votes", "votes_seq");
+        SEQUENCES.put("comments", "comments_seq");
+        SEQUENCES.put("likes", "likes_seq");
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SequenceSupport sequenceSupport;
+
+    public SequenceAligner(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        // EntityManagerFactory 생성(스키마 생성 포함) 이후에 실행되도록 주입받음
+        this.sequenceSupport = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect().getSequenceSupport();
+    }
+
+    @PostConstruct
+    public void align() {
+        SEQUENCES.forEach((table, sequence) -> {
+            try {
+                Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+                Long next = jdbcTemplate.queryForObject(sequenceSupport.getSequenceNextValString(sequence), Long.class);
+                if (maxId != null && next != null && maxId >= next) {
+                    jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (maxId + 1));
+                    log.info("ID 시퀀스 보정 - 시퀀스: {}, 시작 값: {} -> {}", sequence, next, maxId + 1);
+                }
+            } catch (DataAccessException e) {
+                log.warn("ID 시퀀스 보정 중 오류 발생 - 시퀀스: {}, 오류: {}", sequence, e.getMessage());
+            }
+        });
+    }
+}
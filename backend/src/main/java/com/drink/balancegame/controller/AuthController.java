@@ -1,5 +1,6 @@
 package com.drink.balancegame.controller;
 
+import com.drink.balancegame.config.QueryBudget;
 import com.drink.balancegame.dto.UserDto;
 import com.drink.balancegame.dto.TestLoginRequest;
 import com.drink.balancegame.entity.User;
@@ -31,6 +32,7 @@ public class AuthController {
      * 테스트 로그인 (간단한 사용자명/비밀번호)
      */
     @PostMapping("/test-login")
+    @QueryBudget(1)
     public ResponseEntity<?> testLogin(@RequestBody TestLoginRequest request) {
         // 간단한 테스트용 로그인 (실제 운영에서는 사용 안함)
         Optional<User> user = userRepository.findByUsername(request.getUsername());
@@ -52,6 +54,7 @@ public class AuthController {
      * 현재 사용자 정보 조회
      */
     @GetMapping("/me")
+    @QueryBudget(1)
     @Transactional(readOnly = true)
     public ResponseEntity<UserDto> getCurrentUser(@RequestHeader("Authorization") String token) {
         try {
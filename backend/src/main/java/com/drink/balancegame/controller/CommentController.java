@@ -1,17 +1,21 @@
 package com.drink.balancegame.controller;
 
+import com.drink.balancegame.config.QueryBudget;
 import com.drink.balancegame.dto.CommentDto;
 import com.drink.balancegame.dto.CommentCreateDto;
 import com.drink.balancegame.dto.CommentUpdateDto;
 import com.drink.balancegame.entity.BalanceGame;
 import com.drink.balancegame.entity.Comment;
-import com.drink.balancegame.entity.Like;
 import com.drink.balancegame.entity.User;
 import com.drink.balancegame.repository.BalanceGameRepository;
 import com.drink.balancegame.repository.CommentRepository;
 import com.drink.balancegame.repository.LikeRepository;
 import com.drink.balancegame.repository.UserRepository;
 import com.drink.balancegame.service.DtoConversionService;
+import com.drink.balancegame.service.GameStatsService;
+import com.drink.balancegame.service.LikeService;
+import com.drink.balancegame.util.PagingUtils;
+import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -23,7 +27,6 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * 댓글 컨트롤러
@@ -39,6 +42,8 @@ public class CommentController {
     private final BalanceGameRepository balanceGameRepository;
     private final LikeRepository likeRepository;
     private final DtoConversionService dtoConversionService;
+    private final GameStatsService gameStatsService;
+    private final LikeService likeService;
     
     /**
      * 특정 게임의 최상위 댓글 조회 (페이징, 대댓글 포함)
@@ -48,6 +53,7 @@ public class CommentController {
      * @return 페이징된 최상위 댓글 목록 (대댓글 포함)
      */
     @GetMapping("/game/{balanceGameId}")
+    @QueryBudget(4)
     @Transactional(readOnly = true)
     public ResponseEntity<Page<CommentDto>> getCommentsByGame(
             @PathVariable Long balanceGameId,
@@ -55,10 +61,10 @@ public class CommentController {
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) Long userId) {
         
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        Pageable pageable = PageRequest.of(PagingUtils.clampPage(page), PagingUtils.clampSize(size), Sort.by("createdAt").descending());
         Page<Comment> comments = commentRepository.findByBalanceGameIdAndParentCommentIsNull(balanceGameId, pageable);
         
-        Page<CommentDto> commentDtos = comments.map(comment -> dtoConversionService.convertToCommentDtoWithReplies(comment, userId));
+        Page<CommentDto> commentDtos = dtoConversionService.convertToCommentDtoPageWithReplies(comments, userId);
         return ResponseEntity.ok(commentDtos);
     }
     
@@ -68,6 +74,7 @@ public class CommentController {
      * @return 최상위 댓글 목록 (대댓글 포함)
      */
     @GetMapping("/game/{balanceGameId}/list")
+    @QueryBudget(5)
     @Transactional(readOnly = true)
     public ResponseEntity<List<CommentDto>> getCommentsByGameList(
             @PathVariable Long balanceGameId,
@@ -84,14 +91,13 @@ public class CommentController {
      * @return 대댓글 목록
      */
     @GetMapping("/{parentCommentId}/replies")
+    @QueryBudget(4)
     @Transactional(readOnly = true)
     public ResponseEntity<List<CommentDto>> getRepliesByParentComment(
             @PathVariable Long parentCommentId,
             @RequestParam(required = false) Long userId) {
         List<Comment> replies = commentRepository.findByParentCommentIdOrderByCreatedAtAsc(parentCommentId);
-        List<CommentDto> replyDtos = replies.stream()
-                .map(reply -> dtoConversionService.convertToCommentDto(reply, userId))
-                .collect(Collectors.toList());
+        List<CommentDto> replyDtos = dtoConversionService.convertToCommentDtos(replies, userId);
         
         return ResponseEntity.ok(replyDtos);
     }
@@ -104,16 +110,17 @@ public class CommentController {
      * @return 페이징된 댓글 목록
      */
     @GetMapping("/user/{userId}")
+    @QueryBudget(3)
     @Transactional(readOnly = true)
     public ResponseEntity<Page<CommentDto>> getCommentsByUser(
             @PathVariable Long userId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        Pageable pageable = PageRequest.of(PagingUtils.clampPage(page), PagingUtils.clampSize(size), Sort.by("createdAt").descending());
         Page<Comment> comments = commentRepository.findByAuthorId(userId, pageable);
         
-        Page<CommentDto> commentDtos = comments.map(comment -> dtoConversionService.convertToCommentDto(comment, null));
+        Page<CommentDto> commentDtos = dtoConversionService.convertToCommentDtoPage(comments, null);
         return ResponseEntity.ok(commentDtos);
     }
     
@@ -123,6 +130,7 @@ public class CommentController {
      * @return 댓글 정보
      */
     @GetMapping("/{id}")
+    @QueryBudget(4)
     @Transactional(readOnly = true)
     public ResponseEntity<CommentDto> getComment(@PathVariable Long id) {
         Optional<Comment> comment = commentRepository.findById(id);
@@ -142,12 +150,14 @@ public class CommentController {
      * @return 생성된 댓글 정보
      */
     @PostMapping
+    @QueryBudget(6)
+    @Transactional
     public ResponseEntity<CommentDto> createComment(
             @RequestBody CommentCreateDto createDto,
             @RequestParam Long authorId) {
         
-        // 작성자 존재 확인
-        Optional<User> author = userRepository.findById(authorId);
+        // 작성자 존재 확인 (탈퇴 처리 중이면 거부)
+        Optional<User> author = userRepository.findByIdAndDeletedAtIsNull(authorId);
         if (author.isEmpty()) {
             return ResponseEntity.badRequest().build();
         }
@@ -180,6 +190,7 @@ public class CommentController {
         Comment comment = commentBuilder.build();
         
         Comment savedComment = commentRepository.save(comment);
+        gameStatsService.recordComments(createDto.getBalanceGameId(), 1);
         CommentDto dto = dtoConversionService.convertToCommentDto(savedComment, null);
         
         return ResponseEntity.ok(dto);
@@ -192,6 +203,7 @@ public class CommentController {
      * @return 수정된 댓글 정보
      */
     @PutMapping("/{id}")
+    @QueryBudget(5)
     public ResponseEntity<CommentDto> updateComment(
             @PathVariable Long id,
             @RequestBody CommentUpdateDto updateDto) {
@@ -221,9 +233,17 @@ public class CommentController {
      * @return 삭제 결과
      */
     @DeleteMapping("/{id}")
+    @QueryBudget(6)
+    @Transactional
     public ResponseEntity<Void> deleteComment(@PathVariable Long id) {
-        if (commentRepository.existsById(id)) {
-            commentRepository.deleteById(id);
+        Optional<Comment> comment = commentRepository.findById(id);
+        if (comment.isPresent()) {
+            // 추천 → 대댓글 → 댓글 순으로 일괄 삭제 (대댓글마다 추천을 읽어 지우지 않도록)
+            // 삭제한 대댓글도 댓글 수에서 함께 차감
+            likeRepository.deleteByCommentIdOrParentCommentId(id);
+            long removed = 1 + commentRepository.deleteByParentCommentId(id);
+            commentRepository.deleteCommentById(id);
+            gameStatsService.recordComments(comment.get().getBalanceGame().getId(), -removed);
             return ResponseEntity.ok().build();
         } else {
             return ResponseEntity.notFound().build();
@@ -236,6 +256,7 @@ public class CommentController {
      * @return 댓글 수
      */
     @GetMapping("/count/game/{balanceGameId}")
+    @QueryBudget(1)
     public ResponseEntity<Long> getCommentCount(@PathVariable Long balanceGameId) {
         Long count = commentRepository.countByBalanceGameId(balanceGameId);
         return ResponseEntity.ok(count);
@@ -248,32 +269,16 @@ public class CommentController {
      * @return 추천 결과
      */
     @PostMapping("/{id}/like")
+    @QueryBudget(2)
     public ResponseEntity<String> toggleLike(
             @PathVariable Long id,
             @RequestParam Long userId) {
         
-        Optional<User> user = userRepository.findById(userId);
-        Optional<Comment> comment = commentRepository.findById(id);
-        
-        if (user.isEmpty() || comment.isEmpty()) {
+        try {
+            return ResponseEntity.ok(likeService.toggleCommentLike(userId, id));
+        } catch (EntityNotFoundException e) {
             return ResponseEntity.badRequest().build();
         }
-        
-        Optional<Like> existingLike = likeRepository.findByUserIdAndCommentId(userId, id);
-        
-        if (existingLike.isPresent()) {
-            // 추천 취소
-            likeRepository.delete(existingLike.get());
-            return ResponseEntity.ok("unliked");
-        } else {
-            // 추천 추가
-            Like like = Like.builder()
-                    .user(user.get())
-                    .comment(comment.get())
-                    .build();
-            likeRepository.save(like);
-            return ResponseEntity.ok("liked");
-        }
     }
     
 }
@@ -1,5 +1,6 @@
 package com.drink.balancegame.controller;
 
+import com.drink.balancegame.config.QueryBudget;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -22,6 +23,7 @@ public class KeepAliveController {
      * 최소한의 리소스로 응답하여 애플리케이션을 깨워둠
      */
     @GetMapping("/ping")
+    @QueryBudget(0)
     @Transactional(readOnly = true)
     public ResponseEntity<Map<String, Object>> ping() {
         return ResponseEntity.ok(Map.of(
@@ -35,6 +37,7 @@ public class KeepAliveController {
      * 헬스체크와 유사하지만 더 가벼운 버전
      */
     @GetMapping("/heartbeat")
+    @QueryBudget(0)
     @Transactional(readOnly = true)
     public ResponseEntity<String> heartbeat() {
         return ResponseEntity.ok("OK");
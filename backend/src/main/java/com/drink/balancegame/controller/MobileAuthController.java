@@ -1,5 +1,6 @@
 package com.drink.balancegame.controller;
 
+import com.drink.balancegame.config.QueryBudget;
 import com.drink.balancegame.dto.UserDto;
 import com.drink.balancegame.dto.TestLoginRequest;
 import com.drink.balancegame.entity.User;
@@ -34,6 +35,7 @@ public class MobileAuthController {
      * User-Agent를 통해 모바일 접속인지 자동 확인 (개발 중에는 검증 비활성화)
      */
     @PostMapping("/test-login")
+    @QueryBudget(1)
     public ResponseEntity<?> testLogin(@RequestBody TestLoginRequest request, HttpServletRequest httpRequest) {
         // User-Agent 확인하여 모바일 앱인지 검증 (개발 중에는 주석 처리)
         String userAgent = httpRequest.getHeader("User-Agent");
@@ -63,6 +65,7 @@ public class MobileAuthController {
      * 모바일 전용 현재 사용자 정보 조회
      */
     @GetMapping("/me")
+    @QueryBudget(1)
     @Transactional(readOnly = true)
     public ResponseEntity<UserDto> getCurrentUser(@RequestHeader("Authorization") String token) {
         try {
@@ -84,6 +87,7 @@ public class MobileAuthController {
      * 모바일 전용 토큰 유효성 검증
      */
     @PostMapping("/validate-token")
+    @QueryBudget(0)
     public ResponseEntity<?> validateToken(@RequestHeader("Authorization") String token) {
         try {
             String jwt = token.substring(7); // "Bearer " 제거
@@ -106,6 +110,7 @@ public class MobileAuthController {
      * 모바일 전용 로그아웃
      */
     @PostMapping("/logout")
+    @QueryBudget(0)
     public ResponseEntity<?> logout() {
         // JWT는 stateless하므로 서버에서 할 작업은 없지만, 
         // 클라이언트에서 토큰을 삭제하도록 응답
@@ -120,6 +125,7 @@ public class MobileAuthController {
      * 모바일 전용 토큰 갱신
      */
     @PostMapping("/refresh-token")
+    @QueryBudget(1)
     public ResponseEntity<?> refreshToken(@RequestHeader("Authorization") String token) {
         try {
             String jwt = token.substring(7); // "Bearer " 제거
@@ -147,6 +153,7 @@ public class MobileAuthController {
      * 모바일 전용 앱 버전 확인
      */
     @GetMapping("/app-info")
+    @QueryBudget(0)
     @Transactional(readOnly = true)
     public ResponseEntity<?> getAppInfo() {
         Map<String, Object> response = new HashMap<>();
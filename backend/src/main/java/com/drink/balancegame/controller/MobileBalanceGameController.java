@@ -1,10 +1,13 @@
 package com.drink.balancegame.controller;
 
+import com.drink.balancegame.config.QueryBudget;
 import com.drink.balancegame.dto.BalanceGameDto;
+import com.drink.balancegame.dto.BalanceGameSliceDto;
+import com.drink.balancegame.dto.GameSummaryRow;
 import com.drink.balancegame.dto.BalanceGameCreateDto;
 import com.drink.balancegame.dto.BalanceGameUpdateDto;
+import com.drink.balancegame.dto.GameSuggestionDto;
 import com.drink.balancegame.entity.BalanceGame;
-import com.drink.balancegame.entity.Like;
 import com.drink.balancegame.entity.User;
 import com.drink.balancegame.repository.BalanceGameRepository;
 import com.drink.balancegame.repository.LikeRepository;
@@ -12,15 +15,30 @@ import com.drink.balancegame.repository.UserRepository;
 import com.drink.balancegame.repository.VoteRepository;
 import com.drink.balancegame.repository.CommentRepository;
 import com.drink.balancegame.service.DtoConversionService;
+import com.drink.balancegame.service.GameDeletionService;
+import com.drink.balancegame.service.GameLiveService;
+import com.drink.balancegame.service.GameSearchService;
+import com.drink.balancegame.service.GameStatsService;
+import com.drink.balancegame.service.GameSuggestService;
+import com.drink.balancegame.service.LeaderboardService;
+import com.drink.balancegame.service.LikeService;
+import com.drink.balancegame.service.ViewCountBuffer;
+import com.drink.balancegame.util.PagingUtils;
+import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -39,6 +57,14 @@ public class MobileBalanceGameController {
     private final CommentRepository commentRepository;
     private final LikeRepository likeRepository;
     private final DtoConversionService dtoConversionService;
+    private final GameStatsService gameStatsService;
+    private final LikeService likeService;
+    private final ViewCountBuffer viewCountBuffer;
+    private final LeaderboardService leaderboardService;
+    private final GameSearchService gameSearchService;
+    private final GameSuggestService gameSuggestService;
+    private final GameLiveService gameLiveService;
+    private final GameDeletionService gameDeletionService;
     
     /**
      * 모든 밸런스 게임 조회 (페이징) - N+1 쿼리 최적화 버전
@@ -49,6 +75,7 @@ public class MobileBalanceGameController {
      * @return 페이징된 밸런스 게임 목록
      */
     @GetMapping
+    @QueryBudget(4)
     @Transactional(readOnly = true)
     public ResponseEntity<Page<BalanceGameDto>> getAllBalanceGames(
             @RequestParam(defaultValue = "0") int page,
@@ -60,7 +87,7 @@ public class MobileBalanceGameController {
             Pageable pageable = createPageable(page, size, sort);
             
             // N+1 쿼리 문제 해결: 모든 정렬 타입에 대해 통계와 함께 한 번에 조회
-            Page<Object[]> results;
+            Page<GameSummaryRow> results;
             switch (sort) {
                 case "popular":
                     results = balanceGameRepository.findAllWithStatsOrderByViewCount(pageable);
@@ -73,16 +100,16 @@ public class MobileBalanceGameController {
                         results = balanceGameRepository.findAllWithStatsOrderByLikes(pageable);
                         break; // 일반 컨버터 사용
                     } else {
-                        results = balanceGameRepository.findAllWithStatsOrderByLikesByPeriod(pageable, period);
-                        Page<BalanceGameDto> periodDtos = results.map(this::convertToBalanceGameDtoFromStatsWithPeriod);
-                        return ResponseEntity.ok(periodDtos);
+                        // 모바일은 기간별 베스트에서도 전체 좋아요 수 표시 (순위만 기간 내 좋아요 기준)
+                        results = leaderboardService.findBestGames(pageable, period);
+                        break;
                     }
                 default: // "latest"
                     results = balanceGameRepository.findAllWithStats(pageable);
                     break;
             }
             
-            Page<BalanceGameDto> balanceGameDtos = results.map(this::convertToBalanceGameDtoFromStats);
+            Page<BalanceGameDto> balanceGameDtos = results.map(dtoConversionService::convertToBalanceGameDto);
             return ResponseEntity.ok(balanceGameDtos);
         } catch (Exception e) {
             System.err.println("Mobile Balance game list error: " + e.getMessage());
@@ -91,21 +118,47 @@ public class MobileBalanceGameController {
         }
     }
     
+    /**
+     * 모든 밸런스 게임 조회 (커서 기반, 최신순) - 무한 스크롤용
+     * offset/COUNT 없이 (created_at, id) 인덱스를 따라 읽으므로 깊은 페이지도 첫 페이지와 비용이 같음
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 빈 값)
+     * @param size 페이지 크기
+     * @return 게임 목록과 다음 커서
+     */
+    @GetMapping(params = "cursor")
+    @QueryBudget(2)
+    @Transactional(readOnly = true)
+    public ResponseEntity<BalanceGameSliceDto> getBalanceGamesByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        size = PagingUtils.clampSize(size);
+        try {
+            Slice<GameSummaryRow> results = balanceGameRepository.findAllWithStatsByCursor(cursor, size);
+            List<BalanceGameDto> content = results.getContent().stream()
+                    .map(dtoConversionService::convertToBalanceGameDto)
+                    .toList();
+            return ResponseEntity.ok(BalanceGameSliceDto.of(content, size, results.hasNext()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
     /**
      * 특정 밸런스 게임 조회 (조회수 증가)
      * @param id 밸런스 게임 ID
      * @return 밸런스 게임 정보
      */
     @GetMapping("/{id}")
+    @QueryBudget(6)
     @Transactional(readOnly = true)
     public ResponseEntity<BalanceGameDto> getBalanceGame(@PathVariable Long id) {
         Optional<BalanceGame> balanceGame = balanceGameRepository.findById(id);
         
         if (balanceGame.isPresent()) {
             BalanceGame game = balanceGame.get();
-            // 조회수 증가
-            game.setViewCount(game.getViewCount() + 1);
-            balanceGameRepository.save(game);
+            // 조회수 증가 (쓰기 지연 - 주기적으로 배치 반영)
+            viewCountBuffer.increment(id);
             
             BalanceGameDto dto = dtoConversionService.convertToBalanceGameDto(game, null);
             return ResponseEntity.ok(dto);
@@ -120,6 +173,7 @@ public class MobileBalanceGameController {
      * @return 밸런스 게임 정보
      */
     @GetMapping("/{id}/info")
+    @QueryBudget(6)
     @Transactional(readOnly = true)
     public ResponseEntity<BalanceGameDto> getBalanceGameInfo(@PathVariable Long id) {
         Optional<BalanceGame> balanceGame = balanceGameRepository.findById(id);
@@ -132,6 +186,24 @@ public class MobileBalanceGameController {
         }
     }
     
+    /**
+     * 밸런스 게임 실시간 집계 구독 (Server-Sent Events)
+     * 투표/좋아요가 바뀌면 "stats" 이벤트로 최신 A/B/좋아요 수를 전송 (게임당 초당 최대 4회)
+     * @param id 밸런스 게임 ID
+     * @return SSE 스트림
+     */
+    @GetMapping(value = "/{id}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @QueryBudget(2)
+    public ResponseEntity<SseEmitter> liveBalanceGame(@PathVariable Long id) {
+        try {
+            return gameLiveService.subscribe(id)
+                    .map(ResponseEntity::ok)
+                    .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+    
     /**
      * 밸런스 게임 생성
      * @param createDto 게임 생성 정보
@@ -139,11 +211,13 @@ public class MobileBalanceGameController {
      * @return 생성된 밸런스 게임 정보
      */
     @PostMapping
+    @QueryBudget(9)
+    @Transactional
     public ResponseEntity<BalanceGameDto> createBalanceGame(
             @RequestBody BalanceGameCreateDto createDto,
             @RequestParam Long authorId) {
         
-        Optional<User> author = userRepository.findById(authorId);
+        Optional<User> author = userRepository.findByIdAndDeletedAtIsNull(authorId);
         if (author.isEmpty()) {
             return ResponseEntity.badRequest().build();
         }
@@ -160,6 +234,8 @@ public class MobileBalanceGameController {
                 .build();
         
         BalanceGame savedGame = balanceGameRepository.save(balanceGame);
+        gameStatsService.initialize(savedGame.getId());
+        gameSearchService.index(savedGame);
         BalanceGameDto dto = dtoConversionService.convertToBalanceGameDto(savedGame, authorId);
         
         return ResponseEntity.ok(dto);
@@ -172,6 +248,7 @@ public class MobileBalanceGameController {
      * @return 수정된 밸런스 게임 정보
      */
     @PutMapping("/{id}")
+    @QueryBudget(6)
     public ResponseEntity<BalanceGameDto> updateBalanceGame(
             @PathVariable Long id,
             @RequestBody BalanceGameUpdateDto updateDto) {
@@ -190,20 +267,21 @@ public class MobileBalanceGameController {
         }
         
         BalanceGame updatedGame = balanceGameRepository.save(game);
+        gameSearchService.index(updatedGame);
         BalanceGameDto dto = dtoConversionService.convertToBalanceGameDto(updatedGame, null);
         
         return ResponseEntity.ok(dto);
     }
     
     /**
-     * 밸런스 게임 삭제
+     * 밸런스 게임 삭제 (청크 단위 트랜잭션으로 나눠 삭제하므로 트랜잭션 없이 실행)
      * @param id 게임 ID
      * @return 삭제 결과
      */
     @DeleteMapping("/{id}")
+    @QueryBudget(18) // 연관 행이 청크 크기 이하일 때 (테이블마다 청크 삭제 + 빈 청크 확인)
     public ResponseEntity<Void> deleteBalanceGame(@PathVariable Long id) {
-        if (balanceGameRepository.existsById(id)) {
-            balanceGameRepository.deleteById(id);
+        if (gameDeletionService.delete(id)) {
             return ResponseEntity.ok().build();
         } else {
             return ResponseEntity.notFound().build();
@@ -218,19 +296,34 @@ public class MobileBalanceGameController {
      * @return 검색 결과
      */
     @GetMapping("/search")
+    @QueryBudget(3)
     @Transactional(readOnly = true)
     public ResponseEntity<Page<BalanceGameDto>> searchBalanceGames(
             @RequestParam String title,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<BalanceGame> balanceGames = balanceGameRepository.findByTitleContainingIgnoreCase(title, pageable);
-        
-        Page<BalanceGameDto> balanceGameDtos = balanceGames.map(game -> dtoConversionService.convertToBalanceGameDto(game, null));
+        // 관련도순 정렬은 검색 색인이 결정
+        Pageable pageable = PageRequest.of(PagingUtils.clampPage(page), PagingUtils.clampSize(size));
+        Page<BalanceGameDto> balanceGameDtos = gameSearchService.search(title, pageable)
+                .map(dtoConversionService::convertToBalanceGameDto);
         return ResponseEntity.ok(balanceGameDtos);
     }
     
+    /**
+     * 검색어 자동완성 (제목 접두어 또는 초성)
+     * @param q 입력 중인 검색어 (예: "짜장", "ㅉㅈ ㅉㅃ")
+     * @param size 최대 개수
+     * @return 조회수/투표수 순 자동완성 목록
+     */
+    @GetMapping("/suggest")
+    @QueryBudget(1)
+    public ResponseEntity<List<GameSuggestionDto>> suggestBalanceGames(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(gameSuggestService.suggest(q, size));
+    }
+    
     /**
      * 정렬 타입에 따른 Pageable 생성
      */
@@ -247,82 +340,10 @@ public class MobileBalanceGameController {
             default:
                 sortBy = Sort.by("createdAt").descending();
         }
-        return PageRequest.of(page, size, sortBy);
+        return PageRequest.of(PagingUtils.clampPage(page), PagingUtils.clampSize(size), sortBy);
     }
     
     
-    /**
-     * 통계 정보가 포함된 Object[] 배열을 BalanceGameDto로 변환
-     * N+1 쿼리 문제 해결용 메서드
-     */
-    private BalanceGameDto convertToBalanceGameDtoFromStats(Object[] row) {
-        BalanceGame game = (BalanceGame) row[0];
-        Long likeCount = ((Number) row[1]).longValue();
-        Long optionACount = ((Number) row[2]).longValue(); 
-        Long optionBCount = ((Number) row[3]).longValue();
-        Long commentCount = ((Number) row[4]).longValue();
-        Long totalVotes = optionACount + optionBCount;
-        
-        return BalanceGameDto.builder()
-                .id(game.getId())
-                .title(game.getTitle())
-                .description(game.getDescription())
-                .optionA(game.getOptionA())
-                .optionADescription(game.getOptionADescription())
-                .optionB(game.getOptionB())
-                .optionBDescription(game.getOptionBDescription())
-                .authorId(game.getAuthor().getId())
-                .authorUsername(game.getAuthor().getUsername())
-                .authorNickname(game.getAuthor().getNickname())
-                .viewCount(game.getViewCount())
-                .createdAt(game.getCreatedAt())
-                .updatedAt(game.getUpdatedAt())
-                .likeCount(likeCount)
-                .isLiked(false) // 로그인하지 않은 상태로 처리
-                .optionAVotes(optionACount)
-                .optionBVotes(optionBCount)
-                .totalVotes(totalVotes)
-                .userVote(null) // 로그인하지 않은 상태로 처리
-                .commentCount(commentCount)
-                .build();
-    }
-    
-    /**
-     * 기간별 통계 정보가 포함된 Object[] 배열을 BalanceGameDto로 변환
-     */
-    private BalanceGameDto convertToBalanceGameDtoFromStatsWithPeriod(Object[] row) {
-        BalanceGame game = (BalanceGame) row[0];
-        Long totalLikeCount = ((Number) row[1]).longValue();
-        Long optionACount = ((Number) row[2]).longValue(); 
-        Long optionBCount = ((Number) row[3]).longValue();
-        Long commentCount = ((Number) row[4]).longValue();
-        Long periodLikeCount = ((Number) row[5]).longValue(); // 기간별 좋아요
-        Long totalVotes = optionACount + optionBCount;
-        
-        return BalanceGameDto.builder()
-                .id(game.getId())
-                .title(game.getTitle())
-                .description(game.getDescription())
-                .optionA(game.getOptionA())
-                .optionADescription(game.getOptionADescription())
-                .optionB(game.getOptionB())
-                .optionBDescription(game.getOptionBDescription())
-                .authorId(game.getAuthor().getId())
-                .authorUsername(game.getAuthor().getUsername())
-                .authorNickname(game.getAuthor().getNickname())
-                .viewCount(game.getViewCount())
-                .createdAt(game.getCreatedAt())
-                .updatedAt(game.getUpdatedAt())
-                .likeCount(totalLikeCount) // 전체 좋아요 수 표시
-                .isLiked(false)
-                .optionAVotes(optionACount)
-                .optionBVotes(optionBCount)
-                .totalVotes(totalVotes)
-                .userVote(null)
-                .commentCount(commentCount)
-                .build();
-    }
-    
     /**
      * 밸런스 게임 추천/추천취소
      * @param id 게임 ID
@@ -330,32 +351,16 @@ public class MobileBalanceGameController {
      * @return 추천 결과
      */
     @PostMapping("/{id}/like")
+    @QueryBudget(3)
     public ResponseEntity<String> toggleLike(
             @PathVariable Long id,
             @RequestParam Long userId) {
         
-        Optional<User> user = userRepository.findById(userId);
-        Optional<BalanceGame> balanceGame = balanceGameRepository.findById(id);
-        
-        if (user.isEmpty() || balanceGame.isEmpty()) {
+        try {
+            return ResponseEntity.ok(likeService.toggleGameLike(userId, id));
+        } catch (EntityNotFoundException e) {
             return ResponseEntity.badRequest().build();
         }
-        
-        Optional<Like> existingLike = likeRepository.findByUserIdAndBalanceGameId(userId, id);
-        
-        if (existingLike.isPresent()) {
-            // 추천 취소
-            likeRepository.delete(existingLike.get());
-            return ResponseEntity.ok("unliked");
-        } else {
-            // 추천 추가
-            Like like = Like.builder()
-                    .user(user.get())
-                    .balanceGame(balanceGame.get())
-                    .build();
-            likeRepository.save(like);
-            return ResponseEntity.ok("liked");
-        }
     }
     
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.drink.balancegame.controller;
 
+import com.drink.balancegame.config.QueryBudget;
+import com.drink.balancegame.dto.AccountRemovalDto;
 import com.drink.balancegame.dto.UserProfileDto;
 import com.drink.balancegame.dto.UserProfileUpdateDto;
 import com.drink.balancegame.dto.UserStatsDto;
@@ -8,9 +10,13 @@ import com.drink.balancegame.repository.UserRepository;
 import com.drink.balancegame.repository.BalanceGameRepository;
 import com.drink.balancegame.repository.VoteRepository;
 import com.drink.balancegame.repository.CommentRepository;
+import com.drink.balancegame.security.UserPrincipal;
+import com.drink.balancegame.security.UserPrincipalCache;
+import com.drink.balancegame.service.AccountRemovalService;
 import com.drink.balancegame.service.DtoConversionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
@@ -31,12 +37,15 @@ public class UserController {
     private final VoteRepository voteRepository;
     private final CommentRepository commentRepository;
     private final DtoConversionService dtoConversionService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final AccountRemovalService accountRemovalService;
     
     /**
      * 모든 사용자 조회
      * @return 사용자 목록
      */
     @GetMapping
+    @QueryBudget(2)
     @Transactional(readOnly = true)
     public ResponseEntity<List<User>> getAllUsers() {
         List<User> users = userRepository.findAll();
@@ -49,6 +58,7 @@ public class UserController {
      * @return 사용자 정보
      */
     @GetMapping("/{id}")
+    @QueryBudget(1)
     @Transactional(readOnly = true)
     public ResponseEntity<UserProfileDto> getUser(@PathVariable Long id) {
         Optional<User> user = userRepository.findById(id);
@@ -68,6 +78,7 @@ public class UserController {
      * @return 업데이트된 사용자 정보
      */
     @PutMapping("/{id}/profile")
+    @QueryBudget(2)
     public ResponseEntity<UserProfileDto> updateUserProfile(
             @PathVariable Long id,
             @RequestBody UserProfileUpdateDto updateDto) {
@@ -97,6 +108,7 @@ public class UserController {
         }
         
         User updatedUser = userRepository.save(user);
+        userPrincipalCache.invalidate(updatedUser.getId());
         UserProfileDto userProfile = dtoConversionService.convertToUserProfileDto(updatedUser);
         
         return ResponseEntity.ok(userProfile);
@@ -108,6 +120,7 @@ public class UserController {
      * @return 사용자 활동 통계
      */
     @GetMapping("/{id}/stats")
+    @QueryBudget(4)
     @Transactional(readOnly = true)
     public ResponseEntity<UserStatsDto> getUserStats(@PathVariable Long id) {
         Optional<User> user = userRepository.findById(id);
@@ -133,5 +146,41 @@ public class UserController {
         return ResponseEntity.ok(stats);
     }
     
+    /**
+     * 회원 탈퇴 요청 (본인 또는 관리자만 가능)
+     * 로그인은 즉시 막히고, 작성한 게임/댓글과 투표/좋아요는 백그라운드에서 나눠 삭제
+     * @param id 사용자 ID
+     * @param principal 인증된 사용자
+     * @return 삭제 진행 상황 (202)
+     */
+    @DeleteMapping("/{id}")
+    @QueryBudget(2) // 콘텐츠 삭제는 회원 탈퇴 작업 스레드에서 처리
+    public ResponseEntity<AccountRemovalDto> deleteUser(
+            @PathVariable Long id,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        
+        accountRemovalService.checkAccountOwner(id, principal);
+        return accountRemovalService.requestRemoval(id)
+                .map(progress -> ResponseEntity.accepted().body(progress))
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    /**
+     * 회원 탈퇴 진행 상황 조회 (본인 또는 관리자만 가능)
+     * @param id 사용자 ID
+     * @param principal 인증된 사용자
+     * @return 삭제 진행 상황
+     */
+    @GetMapping("/{id}/removal")
+    @QueryBudget(1)
+    public ResponseEntity<AccountRemovalDto> getRemovalProgress(
+            @PathVariable Long id,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        
+        accountRemovalService.checkAccountOwner(id, principal);
+        return accountRemovalService.getProgress(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
 }
-
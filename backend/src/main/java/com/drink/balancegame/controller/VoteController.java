@@ -1,23 +1,27 @@
 package com.drink.balancegame.controller;
 
+import com.drink.balancegame.config.QueryBudget;
 import com.drink.balancegame.dto.VoteDto;
 import com.drink.balancegame.dto.VoteCreateDto;
 import com.drink.balancegame.dto.VoteResponseDto;
 import com.drink.balancegame.dto.VoteStatsDto;
-import com.drink.balancegame.entity.BalanceGame;
-import com.drink.balancegame.entity.User;
 import com.drink.balancegame.entity.Vote;
-import com.drink.balancegame.repository.BalanceGameRepository;
-import com.drink.balancegame.repository.UserRepository;
 import com.drink.balancegame.repository.VoteRepository;
 import com.drink.balancegame.service.DtoConversionService;
+import com.drink.balancegame.service.GameStatsService;
+import com.drink.balancegame.service.VoteIngestionService;
+import com.drink.balancegame.service.VoteTallyCache;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 /**
@@ -27,12 +31,14 @@ import java.util.stream.Collectors;
 @RestController
 @RequestMapping("/api/votes")
 @RequiredArgsConstructor
+@Slf4j
 public class VoteController {
     
     private final VoteRepository voteRepository;
-    private final UserRepository userRepository;
-    private final BalanceGameRepository balanceGameRepository;
     private final DtoConversionService dtoConversionService;
+    private final GameStatsService gameStatsService;
+    private final VoteTallyCache voteTallyCache;
+    private final VoteIngestionService voteIngestionService;
     
     /**
      * 특정 게임의 모든 투표 조회
@@ -40,6 +46,7 @@ public class VoteController {
      * @return 투표 목록
      */
     @GetMapping("/game/{balanceGameId}")
+    @QueryBudget(1)
     @Transactional(readOnly = true)
     public ResponseEntity<List<VoteDto>> getVotesByGame(@PathVariable Long balanceGameId) {
         List<Vote> votes = voteRepository.findByBalanceGameId(balanceGameId);
@@ -56,6 +63,7 @@ public class VoteController {
      * @return 투표 목록
      */
     @GetMapping("/user/{userId}")
+    @QueryBudget(1)
     @Transactional(readOnly = true)
     public ResponseEntity<List<VoteDto>> getVotesByUser(@PathVariable Long userId) {
         List<Vote> votes = voteRepository.findByUserId(userId);
@@ -73,6 +81,7 @@ public class VoteController {
      * @return 투표 정보
      */
     @GetMapping("/user/{userId}/game/{balanceGameId}")
+    @QueryBudget(1)
     @Transactional(readOnly = true)
     public ResponseEntity<VoteDto> getUserVoteForGame(
             @PathVariable Long userId,
@@ -90,70 +99,41 @@ public class VoteController {
     
     /**
      * 투표 생성 또는 변경/취소
+     * 요청은 투표 반영 큐에 들어가 다른 요청과 함께 한 트랜잭션으로 반영되며, 반영될 때까지 요청 스레드를 점유하지 않음
      * @param createDto 투표 생성 정보
      * @param userId 투표할 사용자 ID (실제로는 인증된 사용자에서 가져와야 함)
      * @return 생성/수정된 투표 정보 또는 취소 메시지
      */
     @PostMapping
-    public ResponseEntity<VoteResponseDto> createOrUpdateVote(
+    @QueryBudget(0) // 저장은 투표 반영 큐 스레드에서 묶음으로 처리 (묶음 문장 수는 QueryBudgetTest에서 작성 스레드 기준으로 확인)
+    public CompletableFuture<ResponseEntity<VoteResponseDto>> createOrUpdateVote(
             @RequestBody VoteCreateDto createDto,
             @RequestParam Long userId) {
         
-        try {
-            // 사용자 존재 확인
-            Optional<User> user = userRepository.findById(userId);
-            if (user.isEmpty()) {
-                return ResponseEntity.badRequest().build();
-            }
-            
-            // 밸런스 게임 존재 확인
-            Optional<BalanceGame> balanceGame = balanceGameRepository.findById(createDto.getBalanceGameId());
-            if (balanceGame.isEmpty()) {
-                return ResponseEntity.badRequest().build();
-            }
-            
-            // 투표 옵션 유효성 검사
-            if (!createDto.getSelectedOption().equals("A") && !createDto.getSelectedOption().equals("B")) {
-                return ResponseEntity.badRequest().build();
-            }
-            
-            // 이미 투표했는지 확인
-            Optional<Vote> existingVote = voteRepository.findByUserIdAndBalanceGameId(userId, createDto.getBalanceGameId());
-            
-            if (existingVote.isPresent()) {
-                Vote vote = existingVote.get();
-                Vote.VoteOption newOption = Vote.VoteOption.valueOf(createDto.getSelectedOption());
-                
-                // 같은 옵션을 다시 선택하면 투표 취소
-                if (vote.getSelectedOption() == newOption) {
-                    voteRepository.delete(vote);
-                    return ResponseEntity.ok(VoteResponseDto.cancelled());
-                } else {
-                    // 다른 옵션을 선택하면 투표 변경
-                    vote.setSelectedOption(newOption);
-                    Vote updatedVote = voteRepository.save(vote);
-                    VoteDto dto = dtoConversionService.convertToVoteDto(updatedVote);
-                    return ResponseEntity.ok(VoteResponseDto.updated(dto));
-                }
-            } else {
-                // 새로운 투표 생성
-                Vote vote = Vote.builder()
-                        .selectedOption(Vote.VoteOption.valueOf(createDto.getSelectedOption()))
-                        .user(user.get())
-                        .balanceGame(balanceGame.get())
-                        .build();
-                
-                Vote savedVote = voteRepository.save(vote);
-                VoteDto dto = dtoConversionService.convertToVoteDto(savedVote);
-                
-                return ResponseEntity.ok(VoteResponseDto.created(dto));
-            }
-        } catch (Exception e) {
-            // 로그 출력
-            System.err.println("Vote creation/update error: " + e.getMessage());
-            e.printStackTrace();
-            return ResponseEntity.internalServerError().build();
+        // 투표 옵션 유효성 검사
+        if (createDto.getBalanceGameId() == null
+                || (!"A".equals(createDto.getSelectedOption()) && !"B".equals(createDto.getSelectedOption()))) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
         }
+        
+        Vote.VoteOption option = Vote.VoteOption.valueOf(createDto.getSelectedOption());
+        return voteIngestionService.submit(userId, createDto.getBalanceGameId(), option)
+                .handle((response, error) -> {
+                    if (error == null) {
+                        return ResponseEntity.ok(response);
+                    }
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                    if (cause instanceof IllegalArgumentException) {
+                        // 사용자 또는 게임이 존재하지 않음
+                        return ResponseEntity.badRequest().build();
+                    }
+                    if (cause instanceof IllegalStateException) {
+                        // 반영 대기열이 가득 참
+                        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+                    }
+                    log.error("투표 생성/변경 중 오류 발생: {}", cause.getMessage(), cause);
+                    return ResponseEntity.internalServerError().build();
+                });
     }
     
     /**
@@ -163,6 +143,8 @@ public class VoteController {
      * @return 수정된 투표 정보
      */
     @PutMapping("/{id}")
+    @QueryBudget(5)
+    @Transactional
     public ResponseEntity<VoteDto> updateVote(
             @PathVariable Long id,
             @RequestBody VoteCreateDto updateDto) {
@@ -178,7 +160,9 @@ public class VoteController {
         }
         
         Vote existingVote = vote.get();
-        existingVote.setSelectedOption(Vote.VoteOption.valueOf(updateDto.getSelectedOption()));
+        Vote.VoteOption newOption = Vote.VoteOption.valueOf(updateDto.getSelectedOption());
+        gameStatsService.recordVoteSwitched(existingVote.getBalanceGame().getId(), existingVote.getSelectedOption(), newOption);
+        existingVote.setSelectedOption(newOption);
         
         Vote updatedVote = voteRepository.save(existingVote);
         VoteDto dto = dtoConversionService.convertToVoteDto(updatedVote);
@@ -192,9 +176,13 @@ public class VoteController {
      * @return 삭제 결과
      */
     @DeleteMapping("/{id}")
+    @QueryBudget(3)
+    @Transactional
     public ResponseEntity<Void> deleteVote(@PathVariable Long id) {
-        if (voteRepository.existsById(id)) {
-            voteRepository.deleteById(id);
+        Optional<Vote> vote = voteRepository.findById(id);
+        if (vote.isPresent()) {
+            voteRepository.delete(vote.get());
+            gameStatsService.recordVoteCancelled(vote.get().getBalanceGame().getId(), vote.get().getSelectedOption());
             return ResponseEntity.ok().build();
         } else {
             return ResponseEntity.notFound().build();
@@ -202,15 +190,16 @@ public class VoteController {
     }
     
     /**
-     * 특정 게임의 투표 통계 조회
+     * 특정 게임의 투표 통계 조회 (투표 집계 캐시 사용 - 캐시된 게임은 DB 조회 없음)
      * @param balanceGameId 밸런스 게임 ID
      * @return 투표 통계
      */
     @GetMapping("/stats/{balanceGameId}")
-    @Transactional(readOnly = true)
+    @QueryBudget(1)
     public ResponseEntity<VoteStatsDto> getVoteStats(@PathVariable Long balanceGameId) {
-        Long optionAVotes = voteRepository.countOptionAVotesByBalanceGameId(balanceGameId);
-        Long optionBVotes = voteRepository.countOptionBVotesByBalanceGameId(balanceGameId);
+        VoteTallyCache.Tally tally = voteTallyCache.get(balanceGameId);
+        Long optionAVotes = tally.getOptionA();
+        Long optionBVotes = tally.getOptionB();
         Long totalVotes = optionAVotes + optionBVotes;
         
         double optionAPercentage = totalVotes > 0 ? (double) optionAVotes / totalVotes * 100 : 0;
@@ -0,0 +1,48 @@
+package com.drink.balancegame.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 탈퇴(콘텐츠 삭제) 진행 상황 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountRemovalDto {
+    
+    /** 사용자 ID */
+    private Long userId;
+    
+    /** 상태 (QUEUED, RUNNING, COMPLETED, FAILED) */
+    private String status;
+    
+    /** 작업 예약 일시 */
+    private LocalDateTime requestedAt;
+    
+    /** 작업 시작 일시 */
+    private LocalDateTime startedAt;
+    
+    /** 작업 종료 일시 */
+    private LocalDateTime finishedAt;
+    
+    /** 삭제된 좋아요 수 */
+    private Long likesDeleted;
+    
+    /** 삭제된 투표 수 */
+    private Long votesDeleted;
+    
+    /** 삭제된 댓글 수 */
+    private Long commentsDeleted;
+    
+    /** 삭제된 게임 수 */
+    private Long gamesDeleted;
+    
+    /** 실패 사유 (FAILED일 때) */
+    private String error;
+}
@@ -0,0 +1,52 @@
+package com.drink.balancegame.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 게임 목록 DTO (무한 스크롤용)
+ * 전체 개수를 세지 않고 다음 페이지 존재 여부와 다음 커서만 제공
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalanceGameSliceDto {
+    
+    /** 게임 목록 */
+    private List<BalanceGameDto> content;
+    
+    /** 요청한 페이지 크기 */
+    private int size;
+    
+    /** 다음 페이지 존재 여부 */
+    private boolean hasNext;
+    
+    /** 다음 페이지 요청용 커서 (createdAt,id 형식, 마지막 페이지면 null) */
+    private String nextCursor;
+    
+    /**
+     * 조회 결과로 DTO 생성
+     * @param content 게임 목록
+     * @param size 페이지 크기
+     * @param hasNext 다음 페이지 존재 여부
+     * @return BalanceGameSliceDto
+     */
+    public static BalanceGameSliceDto of(List<BalanceGameDto> content, int size, boolean hasNext) {
+        String nextCursor = null;
+        if (hasNext && !content.isEmpty()) {
+            BalanceGameDto last = content.get(content.size() - 1);
+            nextCursor = last.getCreatedAt() + "," + last.getId();
+        }
+        return BalanceGameSliceDto.builder()
+                .content(content)
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
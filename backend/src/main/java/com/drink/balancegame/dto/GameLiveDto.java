@@ -0,0 +1,37 @@
+package com.drink.balancegame.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게임 실시간 집계 DTO (SSE 이벤트 본문)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameLiveDto {
+    
+    /** 밸런스 게임 ID */
+    private Long balanceGameId;
+    
+    /** 옵션 A 투표수 */
+    private Long optionAVotes;
+    
+    /** 옵션 B 투표수 */
+    private Long optionBVotes;
+    
+    /** 총 투표수 */
+    private Long totalVotes;
+    
+    /** 옵션 A 투표 비율 (%) */
+    private Double optionAPercentage;
+    
+    /** 옵션 B 투표 비율 (%) */
+    private Double optionBPercentage;
+    
+    /** 좋아요 수 */
+    private Long likeCount;
+}
@@ -0,0 +1,22 @@
+package com.drink.balancegame.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검색어 자동완성 항목 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameSuggestionDto {
+    
+    /** 게임 ID */
+    private Long id;
+    
+    /** 게임 제목 */
+    private String title;
+}
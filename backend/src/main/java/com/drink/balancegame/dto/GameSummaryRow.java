@@ -0,0 +1,48 @@
+package com.drink.balancegame.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게임 목록 카드용 요약 행 (JPQL 생성자 표현식 프로젝션)
+ * 작성자와 통계를 한 문장으로 조인해 가져오며, TEXT 설명 컬럼은 읽지 않음
+ *
+ * @param periodLikeCount 기간 내 좋아요 수 (기간별 베스트 목록에서만 채워짐)
+ */
+public record GameSummaryRow(
+        Long id,
+        String title,
+        String optionA,
+        String optionB,
+        Integer viewCount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long authorId,
+        String authorUsername,
+        String authorNickname,
+        Long likeCount,
+        Long optionACount,
+        Long optionBCount,
+        Long commentCount,
+        Long periodLikeCount) {
+
+    /**
+     * 쿼리 프로젝션용 생성자 (기간 내 좋아요 수 제외)
+     */
+    public GameSummaryRow(Long id, String title, String optionA, String optionB, Integer viewCount,
+                          LocalDateTime createdAt, LocalDateTime updatedAt,
+                          Long authorId, String authorUsername, String authorNickname,
+                          Long likeCount, Long optionACount, Long optionBCount, Long commentCount) {
+        this(id, title, optionA, optionB, viewCount, createdAt, updatedAt, authorId, authorUsername, authorNickname,
+                likeCount, optionACount, optionBCount, commentCount, null);
+    }
+
+    /**
+     * 기간 내 좋아요 수를 채운 복사본 생성
+     * @param periodLikeCount 기간 내 좋아요 수
+     * @return GameSummaryRow
+     */
+    public GameSummaryRow withPeriodLikeCount(long periodLikeCount) {
+        return new GameSummaryRow(id, title, optionA, optionB, viewCount, createdAt, updatedAt, authorId, authorUsername,
+                authorNickname, likeCount, optionACount, optionBCount, commentCount, periodLikeCount);
+    }
+}
@@ -8,6 +8,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -18,9 +20,16 @@ import java.util.List;
 /**
  * 밸런스 게임 엔티티
  * A vs B 선택지로 구성된 밸런스 게임 정보를 저장
+ * 조회가 대부분이므로 2차 캐시(balanceGame 영역)에 보관 (연관 컬렉션은 캐시하지 않음)
  */
 @Entity
-@Table(name = "balance_games")
+@Table(name = "balance_games",
+       indexes = {
+           @Index(name = "idx_balance_games_created_at_id", columnList = "created_at, id"),
+           @Index(name = "idx_balance_games_view_count", columnList = "view_count")
+       })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "balanceGame")
 @Data
 @Builder
 @NoArgsConstructor
@@ -28,7 +37,8 @@ import java.util.List;
 public class BalanceGame {
     /** 밸런스 게임 ID (Primary Key) */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "balance_games_seq")
+    @SequenceGenerator(name = "balance_games_seq", sequenceName = "balance_games_seq", allocationSize = 50)
     private Long id;
     
     /** 게임 제목 */
@@ -55,8 +65,8 @@ public class BalanceGame {
     @Column(columnDefinition = "TEXT")
     private String optionBDescription;
     
-    /** 조회수 */
-    @Column(nullable = false)
+    /** 조회수 (ViewCountBuffer의 배치 UPDATE로만 증가하므로 엔티티 수정 시에는 쓰지 않음) */
+    @Column(name = "view_count", nullable = false, updatable = false)
     private Integer viewCount = 0;
     
     
@@ -79,19 +89,19 @@ public class BalanceGame {
     @JsonIgnoreProperties({"balanceGames", "votes", "comments"})
     private User author;
     
-    /** 이 게임에 대한 투표 목록 */
-    @OneToMany(mappedBy = "balanceGame", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    /** 이 게임에 대한 투표 목록 (삭제는 GameDeletionService의 일괄 DELETE로 처리하므로 cascade 없음) */
+    @OneToMany(mappedBy = "balanceGame", fetch = FetchType.LAZY)
     @JsonManagedReference("balanceGame-votes")
     private List<Vote> votes;
     
     /** 이 게임에 대한 댓글 목록 */
-    @OneToMany(mappedBy = "balanceGame", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @OneToMany(mappedBy = "balanceGame", fetch = FetchType.LAZY)
     @JsonManagedReference("balanceGame-comments")
     @Builder.Default
     private List<Comment> comments = new ArrayList<>();
     
     /** 이 게임에 대한 좋아요 목록 */
-    @OneToMany(mappedBy = "balanceGame", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @OneToMany(mappedBy = "balanceGame", fetch = FetchType.LAZY)
     @JsonIgnore
     @Builder.Default
     private List<Like> likes = new ArrayList<>();
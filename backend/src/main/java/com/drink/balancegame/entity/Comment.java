@@ -35,7 +35,8 @@ import java.util.List;
 public class Comment {
     /** 댓글 ID (Primary Key) */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comments_seq")
+    @SequenceGenerator(name = "comments_seq", sequenceName = "comments_seq", allocationSize = 50)
     private Long id;
     
     /** 댓글 내용 */
@@ -0,0 +1,65 @@
+package com.drink.balancegame.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게임 통계 엔티티
+ * 게임별 좋아요/투표/댓글 수를 미리 집계해 두는 프로젝션 테이블
+ * 좋아요, 투표, 댓글 쓰기 시 같은 트랜잭션 안에서 함께 갱신됨
+ */
+@Entity
+@Table(name = "game_stats",
+       indexes = {
+           @Index(name = "idx_game_stats_like_count", columnList = "like_count"),
+           @Index(name = "idx_game_stats_vote_count", columnList = "vote_count")
+       })
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameStats {
+    /** 밸런스 게임 ID (Primary Key, balance_games.id와 동일) */
+    @Id
+    @Column(name = "game_id")
+    private Long gameId;
+
+    /** 좋아요 수 */
+    @Column(name = "like_count", nullable = false)
+    @Builder.Default
+    private Long likeCount = 0L;
+
+    /** 옵션 A 투표 수 */
+    @Column(name = "option_a_count", nullable = false)
+    @Builder.Default
+    private Long optionACount = 0L;
+
+    /** 옵션 B 투표 수 */
+    @Column(name = "option_b_count", nullable = false)
+    @Builder.Default
+    private Long optionBCount = 0L;
+
+    /** 총 투표 수 (투표수순 정렬용) */
+    @Column(name = "vote_count", nullable = false)
+    @Builder.Default
+    private Long voteCount = 0L;
+
+    /** 댓글 수 (대댓글 포함) */
+    @Column(name = "comment_count", nullable = false)
+    @Builder.Default
+    private Long commentCount = 0L;
+
+    /**
+     * 집계되지 않은 빈 통계 생성
+     * @param gameId 게임 ID
+     * @return 모든 카운트가 0인 GameStats
+     */
+    public static GameStats empty(Long gameId) {
+        return GameStats.builder()
+                .gameId(gameId)
+                .build();
+    }
+}
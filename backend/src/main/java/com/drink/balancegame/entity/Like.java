@@ -33,7 +33,8 @@ import java.time.LocalDateTime;
 public class Like {
     /** 추천 ID (Primary Key) */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "likes_seq")
+    @SequenceGenerator(name = "likes_seq", sequenceName = "likes_seq", allocationSize = 50)
     private Long id;
     
     /** 추천을 누른 사용자 */
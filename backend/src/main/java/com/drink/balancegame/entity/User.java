@@ -6,6 +6,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -15,9 +17,12 @@ import java.util.List;
 /**
  * 사용자 엔티티
  * 밸런스 게임 커뮤니티의 사용자 정보를 저장
+ * 조회가 대부분이므로 2차 캐시(user 영역)에 보관
  */
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
 @Data
 @Builder
 @NoArgsConstructor
@@ -25,7 +30,8 @@ import java.util.List;
 public class User {
     /** 사용자 ID (Primary Key) */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
     
     /** 사용자명 (고유값) */
@@ -78,23 +84,26 @@ public class User {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
     
-    /** 사용자가 작성한 밸런스 게임 목록 */
-    @OneToMany(mappedBy = "author", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    /** 탈퇴 요청 일시 (null이 아니면 탈퇴 처리 중: 로그인이 막히고 콘텐츠는 AccountRemovalService가 나눠 삭제) */
+    private LocalDateTime deletedAt;
+    
+    /** 사용자가 작성한 밸런스 게임 목록 (삭제는 AccountRemovalService의 일괄 DELETE로 처리하므로 cascade 없음) */
+    @OneToMany(mappedBy = "author", fetch = FetchType.LAZY)
     @JsonIgnore
     private List<BalanceGame> balanceGames;
     
     /** 사용자가 투표한 목록 */
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @OneToMany(mappedBy = "user", fetch = FetchType.LAZY)
     @JsonIgnore
     private List<Vote> votes;
     
     /** 사용자가 작성한 댓글 목록 */
-    @OneToMany(mappedBy = "author", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @OneToMany(mappedBy = "author", fetch = FetchType.LAZY)
     @JsonIgnore
     private List<Comment> comments;
     
     /** 사용자가 누른 좋아요 목록 */
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @OneToMany(mappedBy = "user", fetch = FetchType.LAZY)
     @JsonIgnore
     private List<Like> likes;
     
@@ -34,7 +34,8 @@ import java.time.LocalDateTime;
 public class Vote {
     /** 투표 ID (Primary Key) */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "votes_seq")
+    @SequenceGenerator(name = "votes_seq", sequenceName = "votes_seq", allocationSize = 50)
     private Long id;
     
     /** 선택된 옵션 (A 또는 B) */
@@ -1,8 +1,12 @@
 package com.drink.balancegame.repository;
 
+import com.drink.balancegame.dto.GameSummaryRow;
 import com.drink.balancegame.entity.BalanceGame;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -19,20 +23,27 @@ import java.util.List;
 public interface BalanceGameRepository extends JpaRepository<BalanceGame, Long> {
     
     /**
-     * 작성자별 밸런스 게임 조회
-     * @param authorId 작성자 ID
-     * @param pageable 페이징 정보
-     * @return 페이징된 밸런스 게임 목록
+     * 게임 목록 카드용 요약 조회의 공통 SELECT 절
+     * 작성자와 game_stats를 조인해 한 문장으로 가져오며, TEXT 설명 컬럼과 엔티티는 읽지 않음
      */
-    Page<BalanceGame> findByAuthorId(Long authorId, Pageable pageable);
+    String SUMMARY_SELECT = """
+        SELECT new com.drink.balancegame.dto.GameSummaryRow(
+            bg.id, bg.title, bg.optionA, bg.optionB, bg.viewCount, bg.createdAt, bg.updatedAt,
+            a.id, a.username, a.nickname,
+            gs.likeCount, gs.optionACount, gs.optionBCount, gs.commentCount)
+        FROM BalanceGame bg
+        JOIN bg.author a
+        JOIN GameStats gs ON gs.gameId = bg.id
+        """;
     
     /**
-     * 제목으로 밸런스 게임 검색
-     * @param title 제목 키워드
+     * 작성자별 밸런스 게임 조회
+     * @param authorId 작성자 ID
      * @param pageable 페이징 정보
      * @return 페이징된 밸런스 게임 목록
      */
-    Page<BalanceGame> findByTitleContainingIgnoreCase(String title, Pageable pageable);
+    @EntityGraph(attributePaths = "author")
+    Page<BalanceGame> findByAuthorId(Long authorId, Pageable pageable);
     
     /**
      * 조회수 기준 인기 게임 조회
@@ -64,171 +75,138 @@ public interface BalanceGameRepository extends JpaRepository<BalanceGame, Long>
     Long countByAuthorId(Long authorId);
     
     /**
-     * 게임 목록과 모든 통계를 한 번에 조회 (N+1 쿼리 해결) - 최신순
+     * 게임 목록과 모든 통계를 한 번에 조회 (game_stats 조인) - 최신순
      * @param pageable 페이징 정보
      * @return 통계 정보가 포함된 게임 목록
      */
-    @Query("""
-        SELECT bg, 
-               COALESCE(likes.likeCount, 0) as likeCount,
-               COALESCE(votes.optionACount, 0) as optionACount, 
-               COALESCE(votes.optionBCount, 0) as optionBCount,
-               COALESCE(comments.commentCount, 0) as commentCount
-        FROM BalanceGame bg
-        LEFT JOIN (
-            SELECT l.balanceGame.id as gameId, COUNT(l) as likeCount 
-            FROM Like l 
-            GROUP BY l.balanceGame.id
-        ) likes ON bg.id = likes.gameId
-        LEFT JOIN (
-            SELECT v.balanceGame.id as gameId,
-                   SUM(CASE WHEN v.selectedOption = 'A' THEN 1 ELSE 0 END) as optionACount,
-                   SUM(CASE WHEN v.selectedOption = 'B' THEN 1 ELSE 0 END) as optionBCount
-            FROM Vote v 
-            GROUP BY v.balanceGame.id
-        ) votes ON bg.id = votes.gameId
-        LEFT JOIN (
-            SELECT c.balanceGame.id as gameId, COUNT(c) as commentCount 
-            FROM Comment c 
-            GROUP BY c.balanceGame.id
-        ) comments ON bg.id = comments.gameId
-        ORDER BY bg.createdAt DESC
+    @Query(value = SUMMARY_SELECT + """
+        ORDER BY bg.createdAt DESC, bg.id DESC
+        """,
+        countQuery = "SELECT COUNT(gs) FROM GameStats gs")
+    Page<GameSummaryRow> findAllWithStats(Pageable pageable);
+    
+    /**
+     * 게임 목록과 모든 통계를 ID 순으로 조회 (전체 순회용, COUNT 없음)
+     * @param id 이전 청크의 마지막 게임 ID (처음이면 0)
+     * @param pageable 조회 개수 (페이지 번호는 항상 0)
+     * @return 통계 정보가 포함된 게임 목록
+     */
+    @Query(SUMMARY_SELECT + """
+        WHERE bg.id > :id
+        ORDER BY bg.id
         """)
-    Page<Object[]> findAllWithStats(Pageable pageable);
+    List<GameSummaryRow> findAllWithStatsAfterId(@Param("id") Long id, Pageable pageable);
     
     /**
-     * 게임 목록과 모든 통계를 한 번에 조회 (N+1 쿼리 해결) - 인기순 (조회수)
-     * @param pageable 페이징 정보
+     * 게임 목록과 모든 통계를 커서 기준으로 조회 - 최신순 첫 페이지 (COUNT 없음)
+     * @param pageable 조회 개수 (페이지 번호는 항상 0)
      * @return 통계 정보가 포함된 게임 목록
      */
-    @Query("""
-        SELECT bg, 
-               COALESCE(likes.likeCount, 0) as likeCount,
-               COALESCE(votes.optionACount, 0) as optionACount, 
-               COALESCE(votes.optionBCount, 0) as optionBCount,
-               COALESCE(comments.commentCount, 0) as commentCount
-        FROM BalanceGame bg
-        LEFT JOIN (
-            SELECT l.balanceGame.id as gameId, COUNT(l) as likeCount 
-            FROM Like l 
-            GROUP BY l.balanceGame.id
-        ) likes ON bg.id = likes.gameId
-        LEFT JOIN (
-            SELECT v.balanceGame.id as gameId,
-                   SUM(CASE WHEN v.selectedOption = 'A' THEN 1 ELSE 0 END) as optionACount,
-                   SUM(CASE WHEN v.selectedOption = 'B' THEN 1 ELSE 0 END) as optionBCount
-            FROM Vote v 
-            GROUP BY v.balanceGame.id
-        ) votes ON bg.id = votes.gameId
-        LEFT JOIN (
-            SELECT c.balanceGame.id as gameId, COUNT(c) as commentCount 
-            FROM Comment c 
-            GROUP BY c.balanceGame.id
-        ) comments ON bg.id = comments.gameId
-        ORDER BY bg.viewCount DESC
+    @Query(SUMMARY_SELECT + """
+        ORDER BY bg.createdAt DESC, bg.id DESC
         """)
-    Page<Object[]> findAllWithStatsOrderByViewCount(Pageable pageable);
+    Slice<GameSummaryRow> findAllWithStatsFirstSlice(Pageable pageable);
     
     /**
-     * 게임 목록과 모든 통계를 한 번에 조회 (N+1 쿼리 해결) - 투표수순
-     * @param pageable 페이징 정보
+     * 게임 목록과 모든 통계를 커서 기준으로 조회 - 최신순, 커서 이후 페이지 (COUNT 없음)
+     * (created_at, id) 인덱스를 따라 읽으므로 페이지 깊이와 관계없이 비용이 일정
+     * @param createdAt 커서 생성일시
+     * @param id 커서 게임 ID
+     * @param pageable 조회 개수 (페이지 번호는 항상 0)
      * @return 통계 정보가 포함된 게임 목록
      */
-    @Query("""
-        SELECT bg, 
-               COALESCE(likes.likeCount, 0) as likeCount,
-               COALESCE(votes.optionACount, 0) as optionACount, 
-               COALESCE(votes.optionBCount, 0) as optionBCount,
-               COALESCE(comments.commentCount, 0) as commentCount
-        FROM BalanceGame bg
-        LEFT JOIN (
-            SELECT l.balanceGame.id as gameId, COUNT(l) as likeCount 
-            FROM Like l 
-            GROUP BY l.balanceGame.id
-        ) likes ON bg.id = likes.gameId
-        LEFT JOIN (
-            SELECT v.balanceGame.id as gameId,
-                   SUM(CASE WHEN v.selectedOption = 'A' THEN 1 ELSE 0 END) as optionACount,
-                   SUM(CASE WHEN v.selectedOption = 'B' THEN 1 ELSE 0 END) as optionBCount
-            FROM Vote v 
-            GROUP BY v.balanceGame.id
-        ) votes ON bg.id = votes.gameId
-        LEFT JOIN (
-            SELECT c.balanceGame.id as gameId, COUNT(c) as commentCount 
-            FROM Comment c 
-            GROUP BY c.balanceGame.id
-        ) comments ON bg.id = comments.gameId
-        ORDER BY (COALESCE(votes.optionACount, 0) + COALESCE(votes.optionBCount, 0)) DESC
+    @Query(SUMMARY_SELECT + """
+        WHERE bg.createdAt <= :createdAt
+          AND (bg.createdAt < :createdAt OR bg.id < :id)
+        ORDER BY bg.createdAt DESC, bg.id DESC
         """)
-    Page<Object[]> findAllWithStatsOrderByVoteCount(Pageable pageable);
+    Slice<GameSummaryRow> findAllWithStatsBefore(@Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
     
     /**
-     * 게임 목록과 모든 통계를 한 번에 조회 (N+1 쿼리 해결) - 좋아요수순
+     * 커서 문자열로 게임 목록 조회 (최신순 무한 스크롤)
+     * @param cursor "createdAt,id" 형식의 커서 (비어 있으면 첫 페이지)
+     * @param size 페이지 크기
+     * @return 통계 정보가 포함된 게임 목록
+     * @throws IllegalArgumentException 커서 형식이 잘못되었을 때
+     */
+    default Slice<GameSummaryRow> findAllWithStatsByCursor(String cursor, int size) {
+        Pageable limit = PageRequest.of(0, size);
+        if (cursor == null || cursor.isBlank()) {
+            return findAllWithStatsFirstSlice(limit);
+        }
+        
+        int separator = cursor.lastIndexOf(',');
+        try {
+            LocalDateTime createdAt = LocalDateTime.parse(cursor.substring(0, separator).trim());
+            Long id = Long.parseLong(cursor.substring(separator + 1).trim());
+            return findAllWithStatsBefore(createdAt, id, limit);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서 형식입니다: " + cursor, e);
+        }
+    }
+    
+    /**
+     * 게임 목록과 모든 통계를 한 번에 조회 (game_stats 조인) - 인기순 (조회수)
      * @param pageable 페이징 정보
      * @return 통계 정보가 포함된 게임 목록
      */
-    @Query("""
-        SELECT bg, 
-               COALESCE(likes.likeCount, 0) as likeCount,
-               COALESCE(votes.optionACount, 0) as optionACount, 
-               COALESCE(votes.optionBCount, 0) as optionBCount,
-               COALESCE(comments.commentCount, 0) as commentCount
-        FROM BalanceGame bg
-        LEFT JOIN (
-            SELECT l.balanceGame.id as gameId, COUNT(l) as likeCount 
-            FROM Like l 
-            GROUP BY l.balanceGame.id
-        ) likes ON bg.id = likes.gameId
-        LEFT JOIN (
-            SELECT v.balanceGame.id as gameId,
-                   SUM(CASE WHEN v.selectedOption = 'A' THEN 1 ELSE 0 END) as optionACount,
-                   SUM(CASE WHEN v.selectedOption = 'B' THEN 1 ELSE 0 END) as optionBCount
-            FROM Vote v 
-            GROUP BY v.balanceGame.id
-        ) votes ON bg.id = votes.gameId
-        LEFT JOIN (
-            SELECT c.balanceGame.id as gameId, COUNT(c) as commentCount 
-            FROM Comment c 
-            GROUP BY c.balanceGame.id
-        ) comments ON bg.id = comments.gameId
-        ORDER BY COALESCE(likes.likeCount, 0) DESC
-        """)
-    Page<Object[]> findAllWithStatsOrderByLikes(Pageable pageable);
+    @Query(value = SUMMARY_SELECT + """
+        ORDER BY bg.viewCount DESC
+        """,
+        countQuery = "SELECT COUNT(gs) FROM GameStats gs")
+    Page<GameSummaryRow> findAllWithStatsOrderByViewCount(Pageable pageable);
     
     /**
-     * 게임 목록과 모든 통계를 한 번에 조회 (N+1 쿼리 해결) - 기간별 좋아요수순
+     * 게임 목록과 모든 통계를 한 번에 조회 (game_stats 조인) - 투표수순
      * @param pageable 페이징 정보
-     * @param startDate 시작 날짜
      * @return 통계 정보가 포함된 게임 목록
      */
-    @Query("""
-        SELECT bg, 
-               COALESCE((SELECT COUNT(l) FROM Like l WHERE l.balanceGame.id = bg.id), 0) as totalLikeCount,
-               COALESCE((SELECT SUM(CASE WHEN v.selectedOption = 'A' THEN 1 ELSE 0 END) FROM Vote v WHERE v.balanceGame.id = bg.id), 0) as optionACount,
-               COALESCE((SELECT SUM(CASE WHEN v.selectedOption = 'B' THEN 1 ELSE 0 END) FROM Vote v WHERE v.balanceGame.id = bg.id), 0) as optionBCount,
-               COALESCE((SELECT COUNT(c) FROM Comment c WHERE c.balanceGame.id = bg.id), 0) as commentCount,
-               COALESCE((SELECT COUNT(l) FROM Like l WHERE l.balanceGame.id = bg.id AND l.createdAt >= :startDate), 0) as periodLikeCount
-        FROM BalanceGame bg
-        ORDER BY COALESCE((SELECT COUNT(l) FROM Like l WHERE l.balanceGame.id = bg.id AND l.createdAt >= :startDate), 0) DESC, bg.createdAt DESC
+    @Query(value = SUMMARY_SELECT + """
+        ORDER BY gs.voteCount DESC
+        """,
+        countQuery = "SELECT COUNT(gs) FROM GameStats gs")
+    Page<GameSummaryRow> findAllWithStatsOrderByVoteCount(Pageable pageable);
+    
+    /**
+     * 게임 목록과 모든 통계를 한 번에 조회 (game_stats 조인) - 좋아요수순
+     * @param pageable 페이징 정보
+     * @return 통계 정보가 포함된 게임 목록
+     */
+    @Query(value = SUMMARY_SELECT + """
+        ORDER BY gs.likeCount DESC
+        """,
+        countQuery = "SELECT COUNT(gs) FROM GameStats gs")
+    Page<GameSummaryRow> findAllWithStatsOrderByLikes(Pageable pageable);
+    
+    /**
+     * 지정한 게임들과 모든 통계를 한 번에 조회 (game_stats 조인, 리더보드 페이지용)
+     * @param ids 게임 ID 목록
+     * @return 통계 정보가 포함된 게임 목록 (순서 보장 없음)
+     */
+    @Query(SUMMARY_SELECT + """
+        WHERE bg.id IN :ids
         """)
-    Page<Object[]> findAllWithStatsOrderByLikesWithPeriod(Pageable pageable, @Param("startDate") LocalDateTime startDate);
+    List<GameSummaryRow> findAllWithStatsByIdIn(@Param("ids") List<Long> ids);
     
     /**
-     * 게임 목록과 모든 통계를 한 번에 조회 (N+1 쿼리 해결) - 기간별 좋아요수순 (period 파라미터 버전)
+     * 제목/선택지 부분 일치 검색 (검색 색인이 메모리 예산을 넘어 꺼졌을 때의 대체 경로, 최신순)
+     * @param query 검색어
      * @param pageable 페이징 정보
-     * @param period 기간 (daily, weekly, monthly, all)
      * @return 통계 정보가 포함된 게임 목록
      */
-    default Page<Object[]> findAllWithStatsOrderByLikesByPeriod(Pageable pageable, String period) {
-        switch (period) {
-            case "daily":
-                return findAllWithStatsOrderByLikesWithPeriod(pageable, LocalDateTime.now().minusHours(24));
-            case "weekly":
-                return findAllWithStatsOrderByLikesWithPeriod(pageable, LocalDateTime.now().minusHours(168)); // 7*24
-            case "monthly":
-                return findAllWithStatsOrderByLikesWithPeriod(pageable, LocalDateTime.now().minusHours(720)); // 30*24
-            default: // "all"의 경우
-                return findAllWithStatsOrderByLikes(pageable);
-        }
-    }
+    @Query(value = SUMMARY_SELECT + """
+        WHERE LOWER(bg.title) LIKE LOWER(CONCAT('%', :query, '%'))
+           OR LOWER(bg.optionA) LIKE LOWER(CONCAT('%', :query, '%'))
+           OR LOWER(bg.optionB) LIKE LOWER(CONCAT('%', :query, '%'))
+        ORDER BY bg.createdAt DESC
+        """,
+        countQuery = """
+        SELECT COUNT(bg) FROM BalanceGame bg
+        WHERE LOWER(bg.title) LIKE LOWER(CONCAT('%', :query, '%'))
+           OR LOWER(bg.optionA) LIKE LOWER(CONCAT('%', :query, '%'))
+           OR LOWER(bg.optionB) LIKE LOWER(CONCAT('%', :query, '%'))
+        """)
+    Page<GameSummaryRow> searchWithStats(@Param("query") String query, Pageable pageable);
 }
\ No newline at end of file
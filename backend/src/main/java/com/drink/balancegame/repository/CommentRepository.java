@@ -3,7 +3,9 @@ package com.drink.balancegame.repository;
 import com.drink.balancegame.entity.Comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -40,6 +42,7 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      * @param pageable 페이징 정보
      * @return 페이징된 댓글 목록
      */
+    @EntityGraph(attributePaths = {"author", "balanceGame"})
     Page<Comment> findByAuthorId(Long authorId, Pageable pageable);
     
     /**
@@ -62,6 +65,7 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      * @param pageable 페이징 정보
      * @return 페이징된 최상위 댓글 목록
      */
+    @EntityGraph(attributePaths = {"author", "balanceGame"})
     Page<Comment> findByBalanceGameIdAndParentCommentIsNull(Long balanceGameId, Pageable pageable);
     
     /**
@@ -69,6 +73,7 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      * @param parentCommentId 부모 댓글 ID
      * @return 대댓글 목록
      */
+    @EntityGraph(attributePaths = {"author", "balanceGame"})
     List<Comment> findByParentCommentIdOrderByCreatedAtAsc(Long parentCommentId);
     
     /**
@@ -76,6 +81,7 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      * @param balanceGameId 밸런스 게임 ID
      * @return 최상위 댓글 목록
      */
+    @EntityGraph(attributePaths = {"author", "balanceGame"})
     List<Comment> findByBalanceGameIdAndParentCommentIsNullOrderByCreatedAtDesc(Long balanceGameId);
     
     /**
@@ -98,6 +104,22 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     /**
      * 부모 댓글 ID 리스트로 모든 대댓글 한번에 조회 (N+1 방지)
      */
+    @EntityGraph(attributePaths = {"author", "balanceGame"})
     @Query("SELECT c FROM Comment c WHERE c.parentComment.id IN :parentIds ORDER BY c.parentComment.id, c.createdAt")
     List<Comment> findByParentCommentIdIn(@Param("parentIds") List<Long> parentIds);
+    
+    /**
+     * 부모 댓글의 대댓글 일괄 삭제 (추천은 먼저 삭제해야 함)
+     * @return 삭제된 대댓글 수
+     */
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.parentComment.id = :parentCommentId")
+    int deleteByParentCommentId(@Param("parentCommentId") Long parentCommentId);
+    
+    /**
+     * 댓글 삭제 (엔티티 cascade 없이 한 문장, 추천과 대댓글은 먼저 삭제해야 함)
+     */
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id = :id")
+    void deleteCommentById(@Param("id") Long id);
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.drink.balancegame.repository;
+
+import com.drink.balancegame.entity.GameStats;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 게임 통계 리포지토리
+ * game_stats 카운터의 원자적 증감을 담당
+ */
+@Repository
+public interface GameStatsRepository extends JpaRepository<GameStats, Long> {
+
+    /**
+     * 좋아요 수 증감
+     * @param gameId 게임 ID
+     * @param delta 증감값
+     * @return 갱신된 행 수 (통계 행이 없으면 0)
+     */
+    @Modifying
+    @Query("UPDATE GameStats s SET s.likeCount = s.likeCount + :delta WHERE s.gameId = :gameId")
+    int incrementLikeCount(@Param("gameId") Long gameId, @Param("delta") long delta);
+
+    /**
+     * 투표 수 증감 (옵션별 + 총합)
+     * @param gameId 게임 ID
+     * @param deltaA 옵션 A 증감값
+     * @param deltaB 옵션 B 증감값
+     * @return 갱신된 행 수 (통계 행이 없으면 0)
+     */
+    @Modifying
+    @Query("""
+        UPDATE GameStats s
+        SET s.optionACount = s.optionACount + :deltaA,
+            s.optionBCount = s.optionBCount + :deltaB,
+            s.voteCount = s.voteCount + :deltaA + :deltaB
+        WHERE s.gameId = :gameId
+        """)
+    int incrementVoteCounts(@Param("gameId") Long gameId, @Param("deltaA") long deltaA, @Param("deltaB") long deltaB);
+
+    /**
+     * 댓글 수 증감
+     * @param gameId 게임 ID
+     * @param delta 증감값
+     * @return 갱신된 행 수 (통계 행이 없으면 0)
+     */
+    @Modifying
+    @Query("UPDATE GameStats s SET s.commentCount = s.commentCount + :delta WHERE s.gameId = :gameId")
+    int incrementCommentCount(@Param("gameId") Long gameId, @Param("delta") long delta);
+
+    /**
+     * 통계 행이 없는 게임 ID 조회 (백필용)
+     * @param pageable 조회 개수 제한
+     * @return 게임 ID 목록
+     */
+    @Query("SELECT bg.id FROM BalanceGame bg WHERE NOT EXISTS (SELECT 1 FROM GameStats s WHERE s.gameId = bg.id) ORDER BY bg.id")
+    List<Long> findGameIdsWithoutStats(Pageable pageable);
+}
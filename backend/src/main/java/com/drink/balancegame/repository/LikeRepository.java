@@ -18,7 +18,7 @@ import java.util.stream.Collectors;
  * 추천 레포지토리
  */
 @Repository
-public interface LikeRepository extends JpaRepository<Like, Long> {
+public interface LikeRepository extends JpaRepository<Like, Long>, LikeRepositoryCustom {
     
     /**
      * 밸런스 게임 추천 수 조회
@@ -44,6 +44,28 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
     @Query("SELECT l FROM Like l WHERE l.user.id = :userId AND l.comment.id = :commentId")
     Optional<Like> findByUserIdAndCommentId(@Param("userId") Long userId, @Param("commentId") Long commentId);
     
+    /**
+     * 사용자의 게임 추천 삭제 (추천 토글용, 엔티티 조회 없이 바로 삭제)
+     * @return 삭제된 행 수 (0이면 추천하지 않은 상태)
+     */
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.user.id = :userId AND l.balanceGame.id = :balanceGameId")
+    int deleteByUserIdAndBalanceGameId(@Param("userId") Long userId, @Param("balanceGameId") Long balanceGameId);
+    
+    /**
+     * 사용자의 댓글 추천 삭제 (추천 토글용, 엔티티 조회 없이 바로 삭제)
+     * @return 삭제된 행 수 (0이면 추천하지 않은 상태)
+     */
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.user.id = :userId AND l.comment.id = :commentId")
+    int deleteByUserIdAndCommentId(@Param("userId") Long userId, @Param("commentId") Long commentId);
+    
+    /**
+     * 댓글과 그 대댓글의 추천 모두 삭제 (댓글 삭제용, 대댓글 수와 무관하게 한 문장)
+     */
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.comment.id IN (SELECT c.id FROM Comment c WHERE c.id = :commentId OR c.parentComment.id = :commentId)")
+    void deleteByCommentIdOrParentCommentId(@Param("commentId") Long commentId);
     
     /**
      * 특정 기간 이후의 밸런스 게임 추천 수 조회
@@ -85,4 +107,17 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
      */
     @Query("SELECT l.balanceGame.id FROM Like l WHERE l.user.id = :userId AND l.balanceGame.id IN :gameIds")
     List<Long> findLikedGameIdsByUserIdAndGameIdIn(@Param("userId") Long userId, @Param("gameIds") List<Long> gameIds);
+    
+    /**
+     * 여러 댓글의 좋아요 수와 사용자의 좋아요 여부를 한번에 조회 (N+1 방지)
+     * 좋아요가 없는 댓글은 결과에 없고, userId가 null이면 좋아요 여부는 모두 0
+     * @return [댓글 ID, 좋아요 수, 사용자의 좋아요 수(0 또는 1)]
+     */
+    @Query("""
+            SELECT l.comment.id, COUNT(l), SUM(CASE WHEN l.user.id = :userId THEN 1 ELSE 0 END)
+            FROM Like l
+            WHERE l.comment.id IN :commentIds
+            GROUP BY l.comment.id
+            """)
+    List<Object[]> countAndLikedByCommentIdInRaw(@Param("commentIds") List<Long> commentIds, @Param("userId") Long userId);
 }
\ No newline at end of file
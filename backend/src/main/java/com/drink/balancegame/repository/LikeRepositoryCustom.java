@@ -0,0 +1,28 @@
+package com.drink.balancegame.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 추천 레포지토리 커스텀 기능
+ * DB 방언에 따라 달라지는 네이티브 쿼리를 담당
+ */
+public interface LikeRepositoryCustom {
+
+    /**
+     * 게임 추천이 없을 때만 추가 (사용자/게임이 없거나, 사용자가 탈퇴 처리 중이거나, 이미 추천한 경우 아무것도 하지 않음)
+     * @param userId 사용자 ID
+     * @param balanceGameId 밸런스 게임 ID
+     * @param createdAt 생성일시
+     * @return 추가된 행 수 (0 또는 1)
+     */
+    int insertGameLikeIfAbsent(Long userId, Long balanceGameId, LocalDateTime createdAt);
+
+    /**
+     * 댓글 추천이 없을 때만 추가 (사용자/댓글이 없거나, 사용자가 탈퇴 처리 중이거나, 이미 추천한 경우 아무것도 하지 않음)
+     * @param userId 사용자 ID
+     * @param commentId 댓글 ID
+     * @param createdAt 생성일시
+     * @return 추가된 행 수 (0 또는 1)
+     */
+    int insertCommentLikeIfAbsent(Long userId, Long commentId, LocalDateTime createdAt);
+}
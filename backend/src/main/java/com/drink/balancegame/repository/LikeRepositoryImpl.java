@@ -0,0 +1,80 @@
+package com.drink.balancegame.repository;
+
+import com.drink.balancegame.entity.Like;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.query.NativeQuery;
+
+import java.time.LocalDateTime;
+
+/**
+ * 추천 레포지토리 커스텀 구현
+ * PostgreSQL은 INSERT ... ON CONFLICT DO NOTHING으로 유니크 제약 충돌 없이 추가하고,
+ * H2(로컬)는 NOT EXISTS 조건으로 중복 추가를 막음
+ * 두 방언 모두 사용자/대상 존재 여부를 같은 문장에서 확인하므로 엔티티를 미리 조회하지 않음
+ * 영향 테이블을 likes로 지정해 네이티브 쿼리 실행 시 2차 캐시 전체가 무효화되지 않도록 함
+ * ID는 엔티티와 같은 시퀀스 생성기(pooled-lo)에서 받아 JPA로 추가된 행과 겹치지 않도록 함
+ */
+public class LikeRepositoryImpl implements LikeRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /** PostgreSQL 여부 (최초 사용 시 한 번 확인) */
+    private volatile Boolean postgres;
+
+    @Override
+    public int insertGameLikeIfAbsent(Long userId, Long balanceGameId, LocalDateTime createdAt) {
+        return insertIfAbsent("balance_game_id", "balance_games", userId, balanceGameId, createdAt);
+    }
+
+    @Override
+    public int insertCommentLikeIfAbsent(Long userId, Long commentId, LocalDateTime createdAt) {
+        return insertIfAbsent("comment_id", "comments", userId, commentId, createdAt);
+    }
+
+    private int insertIfAbsent(String targetColumn, String targetTable, Long userId, Long targetId, LocalDateTime createdAt) {
+        String sql = "INSERT INTO likes (id, user_id, " + targetColumn + ", created_at) "
+                + "SELECT :id, u.id, t.id, :createdAt FROM users u, " + targetTable + " t "
+                + "WHERE u.id = :userId AND u.deleted_at IS NULL AND t.id = :targetId";
+        if (isPostgres()) {
+            sql += " ON CONFLICT DO NOTHING";
+        } else {
+            sql += " AND NOT EXISTS (SELECT 1 FROM likes l WHERE l.user_id = :userId AND l." + targetColumn + " = :targetId)";
+        }
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Like.class)
+                .setParameter("id", nextId())
+                .setParameter("userId", userId)
+                .setParameter("targetId", targetId)
+                .setParameter("createdAt", createdAt)
+                .executeUpdate();
+    }
+
+    private Object nextId() {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        BeforeExecutionGenerator generator = (BeforeExecutionGenerator) session.getFactory()
+                .getMappingMetamodel()
+                .getEntityDescriptor(Like.class)
+                .getGenerator();
+        return generator.generate(session, null, null, EventType.INSERT);
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices()
+                    .getDialect() instanceof PostgreSQLDialect;
+            postgres = result;
+        }
+        return result;
+    }
+}
@@ -2,8 +2,11 @@ package com.drink.balancegame.repository;
 
 import com.drink.balancegame.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -27,4 +30,25 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     Optional<User> findByEmail(String email);
     
+    /**
+     * 탈퇴 처리 중이 아닌 사용자 조회 (쓰기 요청의 작성자 확인용)
+     * @param id 사용자 ID
+     * @return 사용자 정보 (없거나 탈퇴 처리 중이면 empty)
+     */
+    Optional<User> findByIdAndDeletedAtIsNull(Long id);
+    
+    /**
+     * 탈퇴 처리 중이 아닌 사용자 목록 조회 (투표 일괄 반영용)
+     * @param ids 사용자 ID 목록
+     * @return 사용자 목록
+     */
+    List<User> findAllByIdInAndDeletedAtIsNull(Collection<Long> ids);
+    
+    /**
+     * 탈퇴 처리 중인 사용자 ID 조회 (재시작 시 삭제 작업 재개용)
+     * @return 사용자 ID 목록
+     */
+    @Query("SELECT u.id FROM User u WHERE u.deletedAt IS NOT NULL ORDER BY u.id")
+    List<Long> findIdsByDeletedAtIsNotNull();
+    
 }
\ No newline at end of file
@@ -1,11 +1,13 @@
 package com.drink.balancegame.repository;
 
 import com.drink.balancegame.entity.Vote;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -27,20 +29,23 @@ public interface VoteRepository extends JpaRepository<Vote, Long> {
      * @param balanceGameId 밸런스 게임 ID
      * @return 투표 정보
      */
+    @EntityGraph(attributePaths = {"user", "balanceGame"})
     Optional<Vote> findByUserIdAndBalanceGameId(Long userId, Long balanceGameId);
     
     /**
-     * 특정 게임의 모든 투표 조회
+     * 특정 게임의 모든 투표 조회 (투표자/게임 함께 조회 - VoteDto 변환 시 N+1 방지)
      * @param balanceGameId 밸런스 게임 ID
      * @return 투표 목록
      */
+    @EntityGraph(attributePaths = {"user", "balanceGame"})
     List<Vote> findByBalanceGameId(Long balanceGameId);
     
     /**
-     * 특정 사용자의 모든 투표 조회
+     * 특정 사용자의 모든 투표 조회 (투표자/게임 함께 조회 - VoteDto 변환 시 N+1 방지)
      * @param userId 사용자 ID
      * @return 투표 목록
      */
+    @EntityGraph(attributePaths = {"user", "balanceGame"})
     List<Vote> findByUserId(Long userId);
     
     /**
@@ -120,4 +125,15 @@ public interface VoteRepository extends JpaRepository<Vote, Long> {
                         (existing, replacement) -> existing
                 ));
     }
+    
+    /**
+     * 여러 (사용자, 게임) 조합의 기존 투표를 한번에 조회 (투표 일괄 반영용)
+     * 사용자 목록 x 게임 목록 범위로 조회하므로 호출 측에서 필요한 조합만 골라 사용
+     * @param userIds 사용자 ID 목록
+     * @param gameIds 게임 ID 목록
+     * @return 투표 목록
+     */
+    @Query("SELECT v FROM Vote v WHERE v.user.id IN :userIds AND v.balanceGame.id IN :gameIds")
+    List<Vote> findByUserIdInAndBalanceGameIdIn(@Param("userIds") Collection<Long> userIds,
+                                                @Param("gameIds") Collection<Long> gameIds);
 }
\ No newline at end of file
@@ -22,25 +22,30 @@ import org.springframework.stereotype.Service;
 public class CustomUserDetailsService extends DefaultOAuth2UserService implements UserDetailsService {
     
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
     
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         User user = userRepository.findByUsername(username)
+                .filter(found -> found.getDeletedAt() == null)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
         
         return UserPrincipal.create(user);
     }
     
     /**
-     * ID로 사용자 조회
+     * ID로 사용자 조회 (UserPrincipalCache 우선, 탈퇴 처리 중인 사용자는 없는 사용자로 취급)
      * @param id 사용자 ID
      * @return UserDetails
      */
     public UserDetails loadUserById(Long id) {
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + id));
-        
-        return UserPrincipal.create(user);
+        return userPrincipalCache.get(id, userId -> {
+            User user = userRepository.findById(userId)
+                    .filter(found -> found.getDeletedAt() == null)
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + userId));
+            
+            return UserPrincipal.create(user);
+        });
     }
     
     /**
@@ -77,6 +82,10 @@ public class CustomUserDetailsService extends DefaultOAuth2UserService implement
         
         User user = userRepository.findByEmail(oauth2UserInfo.getEmail()).orElse(null);
         
+        if (user != null && user.getDeletedAt() != null) {
+            throw new OAuth2AuthenticationException("Account is being removed");
+        }
+        
         if (user != null) {
             // 기존 사용자 업데이트
             user = updateExistingUser(user, oauth2UserInfo);
@@ -118,6 +127,8 @@ public class CustomUserDetailsService extends DefaultOAuth2UserService implement
         existingUser.setNickname(oauth2UserInfo.getName());
         existingUser.setProfileImageUrl(oauth2UserInfo.getImageUrl());
         
-        return userRepository.save(existingUser);
+        User savedUser = userRepository.save(existingUser);
+        userPrincipalCache.invalidate(savedUser.getId());
+        return savedUser;
     }
 }
\ No newline at end of file
@@ -31,8 +31,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String token = getTokenFromRequest(request);
         
-        if (StringUtils.hasText(token) && tokenProvider.validateToken(token)) {
-            Long userId = tokenProvider.getUserId(token);
+        Long userId = StringUtils.hasText(token) ? tokenProvider.getUserIdIfValid(token) : null;
+        
+        if (userId != null) {
+            // 사용자 정보는 UserPrincipalCache를 통해 조회 (캐시 적중 시 DB 조회 없음)
             UserDetails userDetails = userDetailsService.loadUserById(userId);
             
             if (userDetails != null) {
@@ -1,16 +1,26 @@
 package com.drink.balancegame.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT 토큰 생성 및 검증을 담당하는 클래스
+ * 검증이 끝난 토큰의 Claims는 서명 부분을 키로 캐시해 같은 토큰의 반복 검증 시 HMAC 계산과 디코딩을 생략
  */
 @Component
 @Slf4j
@@ -18,11 +28,28 @@ public class JwtTokenProvider {
     
     private final SecretKey secretKey;
     private final long tokenValidityInMilliseconds;
+    /** 서명 키가 고정되어 있으므로 파서는 한 번만 생성해 재사용 (스레드 안전) */
+    private final JwtParser jwtParser;
+    /** 검증된 토큰 캐시 (키: 서명 부분, 만료: 토큰의 exp 이전) */
+    private final Cache<String, VerifiedToken> verifiedTokens;
     
     public JwtTokenProvider(@Value("${jwt.secret:balancegame-secret-key-for-jwt-token-generation-and-validation}") String secret,
-                          @Value("${jwt.token-validity-in-seconds:86400}") long tokenValidityInSeconds) {
+                          @Value("${jwt.token-validity-in-seconds:86400}") long tokenValidityInSeconds,
+                          @Value("${jwt.verified-cache.max-size:2000}") long verifiedCacheMaxSize,
+                          @Value("${jwt.verified-cache.max-ttl-seconds:600}") long verifiedCacheMaxTtlSeconds,
+                          ObjectProvider<MeterRegistry> meterRegistry) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
         this.tokenValidityInMilliseconds = tokenValidityInSeconds * 1000;
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new TokenExpiry(TimeUnit.SECONDS.toNanos(verifiedCacheMaxTtlSeconds)))
+                .recordStats()
+                .build();
+        // 메트릭 레지스트리가 있는 환경에서만 적중/미적중 지표 등록
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, verifiedTokens, "jwt.verified-tokens"));
     }
     
     /**
@@ -50,11 +77,7 @@ public class JwtTokenProvider {
      * @return 사용자 ID
      */
     public Long getUserId(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = parseClaims(token);
         
         return Long.parseLong(claims.getSubject());
     }
@@ -65,11 +88,7 @@ public class JwtTokenProvider {
      * @return 이메일
      */
     public String getEmail(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = parseClaims(token);
         
         return claims.get("email", String.class);
     }
@@ -81,14 +100,103 @@ public class JwtTokenProvider {
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token);
+            parseClaims(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             log.info("Invalid JWT token: {}", e.getMessage());
         }
         return false;
     }
-}
\ No newline at end of file
+    
+    /**
+     * JWT 토큰을 한 번만 파싱해 검증과 사용자 ID 추출을 함께 처리
+     * @param token JWT 토큰
+     * @return 사용자 ID (유효하지 않은 토큰이면 null)
+     */
+    public Long getUserIdIfValid(String token) {
+        try {
+            return Long.parseLong(parseClaims(token).getSubject());
+        } catch (JwtException | IllegalArgumentException e) {
+            log.info("Invalid JWT token: {}", e.getMessage());
+        }
+        return null;
+    }
+    
+    /**
+     * 검증된 Claims 조회 (캐시 적중 시 서명 검증 생략)
+     * 캐시 키는 서명 부분이지만, 적중 시 토큰 전체가 같은지 다시 비교
+     * @param token JWT 토큰
+     * @return Claims
+     * @throws JwtException 유효하지 않은 토큰일 때
+     */
+    private Claims parseClaims(String token) {
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("JWT token is empty");
+        }
+        String signature = token.substring(token.lastIndexOf('.') + 1);
+        VerifiedToken cached = verifiedTokens.getIfPresent(signature);
+        if (cached != null && cached.matches(token)) {
+            if (cached.isExpired()) {
+                verifiedTokens.invalidate(signature);
+            } else {
+                return cached.claims;
+            }
+        }
+        
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        if (claims.getExpiration() != null && !signature.isEmpty()) {
+            verifiedTokens.put(signature, new VerifiedToken(token, claims));
+        }
+        return claims;
+    }
+    
+    /**
+     * 검증이 끝난 토큰과 Claims
+     */
+    private static final class VerifiedToken {
+        private final byte[] token;
+        private final Claims claims;
+        private final long expiresAtMillis;
+        
+        private VerifiedToken(String token, Claims claims) {
+            this.token = token.getBytes(StandardCharsets.US_ASCII);
+            this.claims = claims;
+            this.expiresAtMillis = claims.getExpiration().getTime();
+        }
+        
+        private boolean matches(String other) {
+            return MessageDigest.isEqual(token, other.getBytes(StandardCharsets.US_ASCII));
+        }
+        
+        private boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAtMillis;
+        }
+    }
+    
+    /**
+     * 캐시 항목 만료 정책: 최대 TTL과 토큰 exp 중 빠른 시점
+     */
+    private static final class TokenExpiry implements Expiry<String, VerifiedToken> {
+        private final long maxTtlNanos;
+        
+        private TokenExpiry(long maxTtlNanos) {
+            this.maxTtlNanos = maxTtlNanos;
+        }
+        
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long untilExp = TimeUnit.MILLISECONDS.toNanos(value.expiresAtMillis - System.currentTimeMillis());
+            return Math.max(0, Math.min(maxTtlNanos, untilExp));
+        }
+        
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+        
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.drink.balancegame.security;
+
+import com.drink.balancegame.util.TransactionUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 인증된 사용자 정보(UserPrincipal) 캐시
+ * JWT 인증 필터가 요청마다 users 테이블을 조회하지 않도록 사용자 ID 기준으로 보관
+ * 최대 개수와 만료 시간으로 크기를 제한하고, 프로필 수정 시 즉시 무효화
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final Cache<Long, UserPrincipal> cache;
+
+    public UserPrincipalCache(@Value("${app.auth.principal-cache.max-size:1000}") long maxSize,
+                              @Value("${app.auth.principal-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * 캐시된 사용자 정보 조회 (없으면 loader로 적재 후 보관)
+     * @param userId 사용자 ID
+     * @param loader DB 조회 함수
+     * @return UserPrincipal
+     */
+    public UserPrincipal get(Long userId, Function<Long, UserPrincipal> loader) {
+        return cache.get(userId, loader);
+    }
+
+    /**
+     * 사용자 정보 무효화 (프로필 수정 등)
+     * 트랜잭션 안이면 커밋 이후에 한 번 더 무효화해 커밋 전 값이 다시 캐시되는 것을 방지
+     * @param userId 사용자 ID
+     */
+    public void invalidate(Long userId) {
+        cache.invalidate(userId);
+        TransactionUtils.runAfterCommit(() -> cache.invalidate(userId));
+    }
+}
@@ -0,0 +1,383 @@
+package com.drink.balancegame.service;
+
+import com.drink.balancegame.dto.AccountRemovalDto;
+import com.drink.balancegame.entity.User;
+import com.drink.balancegame.entity.UserRole;
+import com.drink.balancegame.entity.Vote;
+import com.drink.balancegame.repository.UserRepository;
+import com.drink.balancegame.security.UserPrincipal;
+import com.drink.balancegame.security.UserPrincipalCache;
+import com.drink.balancegame.util.TransactionUtils;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회원 탈퇴 서비스
+ * 탈퇴 요청 시 사용자를 즉시 탈퇴 처리 상태(deletedAt)로 표시해 로그인을 막고,
+ * 좋아요 -> 투표 -> 댓글 -> 작성한 게임 순으로 고정 크기(기본 500행) 청크의 짧은 트랜잭션으로 나눠 삭제한 뒤 사용자 행을 삭제
+ * 탈퇴 처리 중인 사용자의 새 투표/좋아요/댓글/게임은 쓰기 경로에서 거부하고,
+ * 마지막 트랜잭션에서 사용자 행을 잠근 뒤 거부 전에 커밋된 나머지를 다시 지워 외래 키 위반 없이 삭제
+ * 삭제 작업은 단일 백그라운드 스레드에서 하나씩 실행되므로 탈퇴 여러 건이 동시에 커넥션을 점유하지 않고,
+ * 청크마다 game_stats와 메모리 집계를 증분 갱신해 삭제 중에도 게임 통계가 원본과 일치
+ * 진행 상황은 메모리에만 보관하며, 재시작하면 탈퇴 처리 중인 사용자의 작업을 처음부터 다시 실행 (삭제는 반복 실행해도 안전)
+ */
+@Service
+@Slf4j
+public class AccountRemovalService {
+
+    /** 작업 상태 */
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    /** 끝난(완료/실패) 작업의 진행 상황 보관 시간 */
+    private static final Duration FINISHED_RETENTION = Duration.ofHours(1);
+
+    private static final String SELECT_LIKES_SQL =
+            "SELECT id, balance_game_id FROM likes WHERE user_id = ? ORDER BY id LIMIT ?";
+    private static final String SELECT_VOTES_SQL =
+            "SELECT id, balance_game_id, selected_option FROM votes WHERE user_id = ? ORDER BY id LIMIT ?";
+    private static final String SELECT_COMMENTS_SQL =
+            "SELECT id, balance_game_id FROM comments WHERE author_id = ? ORDER BY id LIMIT ?";
+    private static final String SELECT_GAMES_SQL =
+            "SELECT id FROM balance_games WHERE author_id = ? ORDER BY id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final UserRepository userRepository;
+    private final GameStatsService gameStatsService;
+    private final GameDeletionService gameDeletionService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final int batchSize;
+
+    /** 사용자 ID별 삭제 작업 */
+    private final Map<Long, Job> jobs = new ConcurrentHashMap<>();
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "account-removal");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public AccountRemovalService(JdbcTemplate jdbcTemplate,
+                                 NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 EntityManagerFactory entityManagerFactory,
+                                 UserRepository userRepository,
+                                 GameStatsService gameStatsService,
+                                 GameDeletionService gameDeletionService,
+                                 UserPrincipalCache userPrincipalCache,
+                                 @Value("${app.account-removal.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManagerFactory = entityManagerFactory;
+        this.userRepository = userRepository;
+        this.gameStatsService = gameStatsService;
+        this.gameDeletionService = gameDeletionService;
+        this.userPrincipalCache = userPrincipalCache;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 탈퇴 요청/진행 상황 조회 권한 확인 (본인 또는 관리자만 가능)
+     * @param userId 대상 사용자 ID
+     * @param principal 인증된 사용자
+     * @throws AuthenticationCredentialsNotFoundException 인증되지 않았을 때 (401)
+     * @throws AccessDeniedException 본인도 관리자도 아닐 때 (403)
+     */
+    public void checkAccountOwner(Long userId, UserPrincipal principal) {
+        if (principal == null) {
+            throw new AuthenticationCredentialsNotFoundException("로그인이 필요합니다.");
+        }
+        boolean admin = principal.getAuthorities().stream()
+                .anyMatch(authority -> ("ROLE_" + UserRole.ADMIN.name()).equals(authority.getAuthority()));
+        if (!principal.getId().equals(userId) && !admin) {
+            throw new AccessDeniedException("본인 또는 관리자만 접근할 수 있습니다.");
+        }
+    }
+
+    /**
+     * 탈퇴 요청 (권한 확인은 checkAccountOwner로 먼저 수행)
+     * 사용자를 즉시 탈퇴 처리 상태로 표시하고 콘텐츠 삭제 작업을 예약
+     * @param userId 사용자 ID
+     * @return 진행 상황 (사용자가 없으면 empty)
+     */
+    public Optional<AccountRemovalDto> requestRemoval(Long userId) {
+        Boolean marked = transactionTemplate.execute(status -> userRepository.findById(userId)
+                .map(user -> {
+                    if (user.getDeletedAt() == null) {
+                        user.setDeletedAt(LocalDateTime.now());
+                    }
+                    return true;
+                })
+                .orElse(false));
+        if (!Boolean.TRUE.equals(marked)) {
+            return Optional.empty();
+        }
+        userPrincipalCache.invalidate(userId);
+        log.info("회원 탈퇴 요청 - 사용자 ID: {}", userId);
+        return Optional.of(schedule(userId).toDto());
+    }
+
+    /**
+     * 탈퇴 진행 상황 조회
+     * @param userId 사용자 ID
+     * @return 진행 상황 (작업이 없거나 보관 시간이 지났으면 empty)
+     */
+    public Optional<AccountRemovalDto> getProgress(Long userId) {
+        evictFinished();
+        return Optional.ofNullable(jobs.get(userId)).map(Job::toDto);
+    }
+
+    /**
+     * 애플리케이션 시작 시 중단된 탈퇴 작업 재개
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeOnStartup() {
+        try {
+            List<Long> pending = userRepository.findIdsByDeletedAtIsNotNull();
+            pending.forEach(this::schedule);
+            if (!pending.isEmpty()) {
+                log.info("중단된 회원 탈퇴 작업 재개 - 사용자 수: {}", pending.size());
+            }
+        } catch (Exception e) {
+            log.warn("회원 탈퇴 작업 재개 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 종료 시 실행 중인 작업 중단 (다음 시작 시 재개)
+     */
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    private Job schedule(Long userId) {
+        evictFinished();
+
+        // 사용자당 작업은 하나만 유지 (실패한 작업은 새로 예약)
+        Job[] created = new Job[1];
+        Job job = jobs.compute(userId, (id, existing) -> {
+            if (existing != null && existing.status != Status.FAILED) {
+                return existing;
+            }
+            created[0] = new Job(id);
+            return created[0];
+        });
+        if (created[0] != null) {
+            executor.execute(() -> run(created[0]));
+        }
+        return job;
+    }
+
+    private void run(Job job) {
+        job.startedAt = LocalDateTime.now();
+        job.status = Status.RUNNING;
+        try {
+            drain(job, job.likesDeleted, this::purgeLikes);
+            drain(job, job.votesDeleted, this::purgeVotes);
+            drain(job, job.commentsDeleted, this::purgeComments);
+            drain(job, job.gamesDeleted, this::purgeGames);
+
+            transactionTemplate.executeWithoutResult(status -> {
+                // 사용자 행을 잠가 이후의 자식 행 INSERT가 외래 키 확인에서 기다리게 한 뒤,
+                // 탈퇴 표시 전에 확인을 통과해 그 사이 커밋된 행을 같은 트랜잭션에서 마저 삭제
+                jdbcTemplate.queryForList("SELECT id FROM users WHERE id = ? FOR UPDATE", Long.class, job.userId);
+                drain(job, job.likesDeleted, this::purgeLikes);
+                drain(job, job.votesDeleted, this::purgeVotes);
+                drain(job, job.commentsDeleted, this::purgeComments);
+                drain(job, job.gamesDeleted, this::purgeGames);
+                jdbcTemplate.update("DELETE FROM users WHERE id = ?", job.userId);
+                TransactionUtils.runAfterCommit(() -> entityManagerFactory.getCache().evict(User.class, job.userId));
+            });
+            userPrincipalCache.invalidate(job.userId);
+
+            job.status = Status.COMPLETED;
+            log.info("회원 탈퇴 완료 - 사용자 ID: {}, 좋아요: {}, 투표: {}, 댓글: {}, 게임: {}",
+                    job.userId, job.likesDeleted.get(), job.votesDeleted.get(),
+                    job.commentsDeleted.get(), job.gamesDeleted.get());
+        } catch (Exception e) {
+            job.error = e.getMessage();
+            job.status = Status.FAILED;
+            log.warn("회원 탈퇴 실패 - 사용자 ID: {}, 오류: {}", job.userId, e.getMessage());
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+        }
+    }
+
+    /**
+     * 보관 시간이 지난 완료/실패 작업 정리
+     * (실패한 사용자는 탈퇴 처리 상태로 남아 다음 요청이나 재시작 시 다시 예약됨)
+     */
+    private void evictFinished() {
+        LocalDateTime expiredBefore = LocalDateTime.now().minus(FINISHED_RETENTION);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(expiredBefore));
+    }
+
+    /**
+     * 청크가 빌 때까지 반복 삭제
+     */
+    private void drain(Job job, AtomicLong counter, Purge purge) {
+        int purged;
+        do {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new IllegalStateException("애플리케이션 종료로 중단되었습니다.");
+            }
+            purged = purge.next(job.userId);
+            counter.addAndGet(purged);
+        } while (purged > 0);
+    }
+
+    /**
+     * 사용자의 좋아요 한 청크 삭제 (게임 좋아요 수 차감)
+     */
+    private int purgeLikes(Long userId) {
+        return transactionTemplate.execute(status -> {
+            List<Row> rows = jdbcTemplate.query(SELECT_LIKES_SQL,
+                    (rs, i) -> new Row(rs.getLong(1), rs.getObject(2, Long.class), null), userId, batchSize);
+            if (rows.isEmpty()) {
+                return 0;
+            }
+            namedParameterJdbcTemplate.update("DELETE FROM likes WHERE id IN (:ids)", Map.of("ids", ids(rows)));
+
+            Map<Long, Long> likesByGame = new HashMap<>();
+            rows.stream().filter(row -> row.gameId() != null)
+                    .forEach(row -> likesByGame.merge(row.gameId(), 1L, Long::sum));
+            likesByGame.forEach((gameId, count) -> gameStatsService.recordGameLike(gameId, -count));
+            return rows.size();
+        });
+    }
+
+    /**
+     * 사용자의 투표 한 청크 삭제 (게임 옵션별 투표 수 차감)
+     */
+    private int purgeVotes(Long userId) {
+        return transactionTemplate.execute(status -> {
+            List<Row> rows = jdbcTemplate.query(SELECT_VOTES_SQL,
+                    (rs, i) -> new Row(rs.getLong(1), rs.getLong(2), rs.getString(3)), userId, batchSize);
+            if (rows.isEmpty()) {
+                return 0;
+            }
+            namedParameterJdbcTemplate.update("DELETE FROM votes WHERE id IN (:ids)", Map.of("ids", ids(rows)));
+
+            Map<Long, long[]> votesByGame = new HashMap<>();
+            for (Row row : rows) {
+                long[] delta = votesByGame.computeIfAbsent(row.gameId(), id -> new long[2]);
+                delta[Vote.VoteOption.A.name().equals(row.option()) ? 0 : 1]--;
+            }
+            votesByGame.forEach((gameId, delta) -> gameStatsService.recordVotes(gameId, delta[0], delta[1]));
+            return rows.size();
+        });
+    }
+
+    /**
+     * 사용자의 댓글 한 청크 삭제
+     * 댓글의 좋아요는 함께 삭제하고, 다른 사용자의 답글은 지우지 않고 최상위 댓글로 남김
+     */
+    private int purgeComments(Long userId) {
+        return transactionTemplate.execute(status -> {
+            List<Row> rows = jdbcTemplate.query(SELECT_COMMENTS_SQL,
+                    (rs, i) -> new Row(rs.getLong(1), rs.getLong(2), null), userId, batchSize);
+            if (rows.isEmpty()) {
+                return 0;
+            }
+            Map<String, List<Long>> params = Map.of("ids", ids(rows));
+            namedParameterJdbcTemplate.update("DELETE FROM likes WHERE comment_id IN (:ids)", params);
+            namedParameterJdbcTemplate.update(
+                    "UPDATE comments SET parent_comment_id = NULL WHERE parent_comment_id IN (:ids)", params);
+            namedParameterJdbcTemplate.update("DELETE FROM comments WHERE id IN (:ids)", params);
+
+            Map<Long, Long> commentsByGame = new HashMap<>();
+            rows.forEach(row -> commentsByGame.merge(row.gameId(), 1L, Long::sum));
+            commentsByGame.forEach((gameId, count) -> gameStatsService.recordComments(gameId, -count));
+            return rows.size();
+        });
+    }
+
+    /**
+     * 사용자가 작성한 게임 한 청크 삭제 (게임마다 GameDeletionService의 청크 삭제 사용)
+     */
+    private int purgeGames(Long userId) {
+        List<Long> gameIds = jdbcTemplate.queryForList(SELECT_GAMES_SQL, Long.class, userId, batchSize);
+        int deleted = 0;
+        for (Long gameId : gameIds) {
+            if (gameDeletionService.delete(gameId)) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    private static List<Long> ids(List<Row> rows) {
+        return rows.stream().map(Row::id).toList();
+    }
+
+    @FunctionalInterface
+    private interface Purge {
+        int next(Long userId);
+    }
+
+    private record Row(Long id, Long gameId, String option) {
+    }
+
+    /**
+     * 사용자 한 명의 삭제 작업 진행 상황
+     */
+    private static final class Job {
+        private final Long userId;
+        private final LocalDateTime requestedAt = LocalDateTime.now();
+        private final AtomicLong likesDeleted = new AtomicLong();
+        private final AtomicLong votesDeleted = new AtomicLong();
+        private final AtomicLong commentsDeleted = new AtomicLong();
+        private final AtomicLong gamesDeleted = new AtomicLong();
+        private volatile Status status = Status.QUEUED;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+
+        Job(Long userId) {
+            this.userId = userId;
+        }
+
+        AccountRemovalDto toDto() {
+            return AccountRemovalDto.builder()
+                    .userId(userId)
+                    .status(status.name())
+                    .requestedAt(requestedAt)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .likesDeleted(likesDeleted.get())
+                    .votesDeleted(votesDeleted.get())
+                    .commentsDeleted(commentsDeleted.get())
+                    .gamesDeleted(gamesDeleted.get())
+                    .error(error)
+                    .build();
+        }
+    }
+}
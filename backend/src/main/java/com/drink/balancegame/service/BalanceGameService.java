@@ -3,6 +3,7 @@ package com.drink.balancegame.service;
 import com.drink.balancegame.dto.BalanceGameCreateDto;
 import com.drink.balancegame.dto.BalanceGameDto;
 import com.drink.balancegame.dto.BalanceGameUpdateDto;
+import com.drink.balancegame.dto.GameSummaryRow;
 import com.drink.balancegame.entity.BalanceGame;
 import com.drink.balancegame.entity.User;
 import com.drink.balancegame.repository.BalanceGameRepository;
@@ -13,6 +14,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -32,6 +34,11 @@ public class BalanceGameService {
     private final UserRepository userRepository;
     private final DtoConversionService dtoConversionService;
     private final ValidationService validationService;
+    private final GameStatsService gameStatsService;
+    private final ViewCountBuffer viewCountBuffer;
+    private final LeaderboardService leaderboardService;
+    private final GameSearchService gameSearchService;
+    private final GameDeletionService gameDeletionService;
     
     /**
      * 모든 밸런스 게임 조회 (페이징)
@@ -99,48 +106,13 @@ public class BalanceGameService {
     public Page<BalanceGameDto> getBestGamesByPeriod(String period, Pageable pageable, Long userId) {
         log.debug("기간별 베스트 게임 조회 - 기간: {}, 페이지: {}, 사용자 ID: {}", period, pageable, userId);
         
-        Page<Object[]> results = balanceGameRepository.findAllWithStatsOrderByLikesByPeriod(pageable, period);
-        return results.map(this::convertToBalanceGameDtoFromStats);
+        Page<GameSummaryRow> results = leaderboardService.findBestGames(pageable, period);
+        return results.map(dtoConversionService::convertToBalanceGameDto);
     }
     
     /**
-     * 통계 정보가 포함된 Object[] 배열을 BalanceGameDto로 변환
-     */
-    private BalanceGameDto convertToBalanceGameDtoFromStats(Object[] row) {
-        BalanceGame game = (BalanceGame) row[0];
-        Long likeCount = ((Number) row[1]).longValue();
-        Long optionACount = ((Number) row[2]).longValue(); 
-        Long optionBCount = ((Number) row[3]).longValue();
-        Long commentCount = ((Number) row[4]).longValue();
-        Long totalVotes = optionACount + optionBCount;
-        
-        return BalanceGameDto.builder()
-                .id(game.getId())
-                .title(game.getTitle())
-                .description(game.getDescription())
-                .optionA(game.getOptionA())
-                .optionADescription(game.getOptionADescription())
-                .optionB(game.getOptionB())
-                .optionBDescription(game.getOptionBDescription())
-                .authorId(game.getAuthor().getId())
-                .authorUsername(game.getAuthor().getUsername())
-                .authorNickname(game.getAuthor().getNickname())
-                .viewCount(game.getViewCount())
-                .createdAt(game.getCreatedAt())
-                .updatedAt(game.getUpdatedAt())
-                .likeCount(likeCount)
-                .isLiked(false) // 로그인하지 않은 상태로 처리
-                .optionAVotes(optionACount)
-                .optionBVotes(optionBCount)
-                .totalVotes(totalVotes)
-                .userVote(null) // 로그인하지 않은 상태로 처리
-                .commentCount(commentCount)
-                .build();
-    }
-    
-    /**
-     * 제목으로 게임 검색
-     * @param title 검색할 제목
+     * 게임 검색 (제목/선택지/설명, 관련도순)
+     * @param title 검색어
      * @param pageable 페이징 정보
      * @param userId 현재 사용자 ID (선택사항)
      * @return 검색된 게임 목록
@@ -148,8 +120,8 @@ public class BalanceGameService {
     public Page<BalanceGameDto> searchGamesByTitle(String title, Pageable pageable, Long userId) {
         log.debug("게임 제목 검색 - 키워드: {}, 페이지: {}, 사용자 ID: {}", title, pageable, userId);
         
-        Page<BalanceGame> games = balanceGameRepository.findByTitleContainingIgnoreCase(title, pageable);
-        return games.map(game -> dtoConversionService.convertToBalanceGameDto(game, userId));
+        Page<GameSummaryRow> results = gameSearchService.search(title, pageable);
+        return results.map(dtoConversionService::convertToBalanceGameDto);
     }
     
     /**
@@ -166,25 +138,24 @@ public class BalanceGameService {
         validationService.validateUserExists(authorId);
         
         Page<BalanceGame> games = balanceGameRepository.findByAuthorId(authorId, pageable);
-        return games.map(game -> dtoConversionService.convertToBalanceGameDto(game, userId));
+        return dtoConversionService.convertToBalanceGameDtoPage(games, userId);
     }
     
     /**
      * 특정 게임 조회 (조회수 증가)
+     * 조회수는 ViewCountBuffer에 누적된 후 주기적으로 DB에 반영됨
      * @param gameId 게임 ID
      * @param userId 현재 사용자 ID (선택사항)
      * @return 게임 정보
      */
-    @Transactional
     public Optional<BalanceGameDto> getGameById(Long gameId, Long userId) {
         log.debug("게임 조회 (조회수 증가) - 게임 ID: {}, 사용자 ID: {}", gameId, userId);
         
         Optional<BalanceGame> gameOpt = balanceGameRepository.findById(gameId);
         if (gameOpt.isPresent()) {
             BalanceGame game = gameOpt.get();
-            // 조회수 증가
-            game.setViewCount(game.getViewCount() + 1);
-            balanceGameRepository.save(game);
+            // 조회수 증가 (쓰기 지연)
+            viewCountBuffer.increment(gameId);
             
             return Optional.of(dtoConversionService.convertToBalanceGameDto(game, userId));
         }
@@ -214,8 +185,8 @@ public class BalanceGameService {
     public BalanceGameDto createGame(BalanceGameCreateDto createDto, Long authorId) {
         log.debug("새 게임 생성 - 제목: {}, 작성자 ID: {}", createDto.getTitle(), authorId);
         
-        // 작성자 존재 확인
-        User author = validationService.validateUserExists(authorId);
+        // 작성자 존재 확인 (탈퇴 처리 중이면 거부)
+        User author = validationService.validateActiveUser(authorId);
         
         // 게임 정보 유효성 검사
         validateGameContent(createDto.getTitle(), createDto.getOptionA(), createDto.getOptionB());
@@ -232,6 +203,8 @@ public class BalanceGameService {
                 .build();
         
         BalanceGame savedGame = balanceGameRepository.save(game);
+        gameStatsService.initialize(savedGame.getId());
+        gameSearchService.index(savedGame);
         log.info("새 게임 생성 완료 - 게임 ID: {}, 제목: {}", savedGame.getId(), savedGame.getTitle());
         
         return dtoConversionService.convertToBalanceGameDto(savedGame, authorId);
@@ -272,18 +245,19 @@ public class BalanceGameService {
         }
         
         BalanceGame updatedGame = balanceGameRepository.save(game);
+        gameSearchService.index(updatedGame);
         log.info("게임 수정 완료 - 게임 ID: {}", gameId);
         
         return Optional.of(dtoConversionService.convertToBalanceGameDto(updatedGame, userId));
     }
     
     /**
-     * 게임 삭제
+     * 게임 삭제 (청크 단위 트랜잭션으로 나눠 삭제하므로 트랜잭션 밖에서 실행)
      * @param gameId 게임 ID
      * @param userId 요청 사용자 ID
      * @return 삭제 성공 여부
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public boolean deleteGame(Long gameId, Long userId) {
         log.debug("게임 삭제 - 게임 ID: {}, 사용자 ID: {}", gameId, userId);
         
@@ -302,10 +276,7 @@ public class BalanceGameService {
             throw new IllegalArgumentException("게임을 삭제할 권한이 없습니다.");
         }
         
-        balanceGameRepository.delete(game);
-        log.info("게임 삭제 완료 - 게임 ID: {}", gameId);
-        
-        return true;
+        return gameDeletionService.delete(gameId);
     }
     
     /**
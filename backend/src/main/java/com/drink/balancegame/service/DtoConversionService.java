@@ -2,6 +2,7 @@ package com.drink.balancegame.service;
 
 import com.drink.balancegame.dto.BalanceGameDto;
 import com.drink.balancegame.dto.CommentDto;
+import com.drink.balancegame.dto.GameSummaryRow;
 import com.drink.balancegame.dto.UserDto;
 import com.drink.balancegame.dto.UserProfileDto;
 import com.drink.balancegame.dto.VoteDto;
@@ -14,12 +15,18 @@ import com.drink.balancegame.repository.CommentRepository;
 import com.drink.balancegame.repository.LikeRepository;
 import com.drink.balancegame.repository.VoteRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -34,6 +41,7 @@ public class DtoConversionService {
     private final VoteRepository voteRepository;
     private final CommentRepository commentRepository;
     private final LikeRepository likeRepository;
+    private final ViewCountBuffer viewCountBuffer;
     
     /**
      * User 엔티티를 UserDto로 변환
@@ -122,7 +130,7 @@ public class DtoConversionService {
                     .authorId(game.getAuthor() != null ? game.getAuthor().getId() : null)
                     .authorUsername(game.getAuthor() != null ? game.getAuthor().getUsername() : null)
                     .authorNickname(game.getAuthor() != null ? game.getAuthor().getNickname() : null)
-                    .viewCount(game.getViewCount())
+                    .viewCount(viewCountBuffer.merge(gameId, game.getViewCount()))
                     .createdAt(game.getCreatedAt())
                     .updatedAt(game.getUpdatedAt())
                     .likeCount(likeCountMap.getOrDefault(gameId, 0L))
@@ -136,6 +144,59 @@ public class DtoConversionService {
         }).collect(Collectors.toList());
     }
     
+    /**
+     * 목록용 요약 행을 BalanceGameDto로 변환 (추가 조회 없음)
+     * 설명 컬럼은 목록에서 쓰지 않으므로 비워 두고, 좋아요/투표 여부는 비로그인 상태로 처리
+     * @param row 게임 요약 행
+     * @return BalanceGameDto
+     */
+    public BalanceGameDto convertToBalanceGameDto(GameSummaryRow row) {
+        return summaryDtoBuilder(row)
+                .likeCount(row.likeCount())
+                .build();
+    }
+    
+    /**
+     * 기간별 베스트 목록의 요약 행을 BalanceGameDto로 변환 (좋아요 수에 기간 내 좋아요 수 표시)
+     * @param row 게임 요약 행 (periodLikeCount 포함)
+     * @return BalanceGameDto
+     */
+    public BalanceGameDto convertToBalanceGameDtoWithPeriodLikes(GameSummaryRow row) {
+        return summaryDtoBuilder(row)
+                .likeCount(row.periodLikeCount() != null ? row.periodLikeCount() : row.likeCount())
+                .build();
+    }
+    
+    private BalanceGameDto.BalanceGameDtoBuilder summaryDtoBuilder(GameSummaryRow row) {
+        return BalanceGameDto.builder()
+                .id(row.id())
+                .title(row.title())
+                .optionA(row.optionA())
+                .optionB(row.optionB())
+                .authorId(row.authorId())
+                .authorUsername(row.authorUsername())
+                .authorNickname(row.authorNickname())
+                .viewCount(viewCountBuffer.merge(row.id(), row.viewCount()))
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
+                .isLiked(false)
+                .optionAVotes(row.optionACount())
+                .optionBVotes(row.optionBCount())
+                .totalVotes(row.optionACount() + row.optionBCount())
+                .userVote(null)
+                .commentCount(row.commentCount());
+    }
+    
+    /**
+     * BalanceGame 페이지를 BalanceGameDto 페이지로 변환 (페이지 단위 배치 조회, N+1 방지)
+     * @param games 밸런스 게임 페이지
+     * @param userId 현재 사용자 ID
+     * @return BalanceGameDto 페이지
+     */
+    public Page<BalanceGameDto> convertToBalanceGameDtoPage(Page<BalanceGame> games, Long userId) {
+        return new PageImpl<>(convertToBalanceGameDtos(games.getContent(), userId), games.getPageable(), games.getTotalElements());
+    }
+    
     // 배치 조회 헬퍼 메서드들
     private Map<Long, Long> getLikeCountsByGameIds(List<Long> gameIds) {
         return likeRepository.countByBalanceGameIdIn(gameIds);
@@ -186,12 +247,44 @@ public class DtoConversionService {
      */
     public CommentDto convertToCommentDto(Comment comment, Long userId) {
         if (comment == null) return null;
+        return convertToCommentDtos(List.of(comment), userId).get(0);
+    }
+    
+    /**
+     * Comment 리스트를 CommentDto 리스트로 변환 (N+1 방지)
+     * 댓글 수와 관계없이 좋아요 수/좋아요 여부 1회 조회
+     * @param comments 댓글 리스트
+     * @param userId 현재 사용자 ID (좋아요 상태 확인용)
+     * @return CommentDto 리스트
+     */
+    public List<CommentDto> convertToCommentDtos(List<Comment> comments, Long userId) {
+        if (comments == null || comments.isEmpty()) return Collections.emptyList();
         
-        // 좋아요 정보 조회
-        Long likeCount = likeRepository.countByCommentId(comment.getId());
-        boolean isLiked = userId != null && 
-            likeRepository.findByUserIdAndCommentId(userId, comment.getId()).isPresent();
+        List<Long> commentIds = comments.stream().map(Comment::getId).collect(Collectors.toList());
+        Map<Long, Long> likeCountMap = new HashMap<>();
+        Set<Long> likedCommentIds = new HashSet<>();
+        loadCommentLikes(commentIds, userId, likeCountMap, likedCommentIds);
         
+        return comments.stream()
+                .map(comment -> toCommentDto(comment, likeCountMap, likedCommentIds))
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * 댓글 좋아요 수와 사용자의 좋아요 여부를 한 번의 조회로 채움
+     */
+    private void loadCommentLikes(List<Long> commentIds, Long userId,
+                                  Map<Long, Long> likeCountMap, Set<Long> likedCommentIds) {
+        for (Object[] row : likeRepository.countAndLikedByCommentIdInRaw(commentIds, userId)) {
+            Long commentId = (Long) row[0];
+            likeCountMap.put(commentId, (Long) row[1]);
+            if (((Number) row[2]).longValue() > 0) {
+                likedCommentIds.add(commentId);
+            }
+        }
+    }
+    
+    private CommentDto toCommentDto(Comment comment, Map<Long, Long> likeCountMap, Set<Long> likedCommentIds) {
         return CommentDto.builder()
                 .id(comment.getId())
                 .content(comment.getContent())
@@ -204,8 +297,8 @@ public class DtoConversionService {
                 .depth(comment.getDepth())
                 .balanceGameId(comment.getBalanceGame().getId())
                 .gameTitle(comment.getBalanceGame().getTitle())
-                .likeCount(likeCount)
-                .isLiked(isLiked)
+                .likeCount(likeCountMap.getOrDefault(comment.getId(), 0L))
+                .isLiked(likedCommentIds.contains(comment.getId()))
                 .build();
     }
     
@@ -235,17 +328,44 @@ public class DtoConversionService {
         Map<Long, List<Comment>> repliesMap = allReplies.stream()
                 .collect(Collectors.groupingBy(comment -> comment.getParentComment().getId()));
         
-        return parentComments.stream().map(parent -> {
-            CommentDto dto = convertToCommentDto(parent, userId);
-            if (dto != null) {
-                List<Comment> replies = repliesMap.getOrDefault(parent.getId(), Collections.emptyList());
-                List<CommentDto> replyDtos = replies.stream()
-                        .map(reply -> convertToCommentDto(reply, userId))
-                        .collect(Collectors.toList());
-                dto.setReplies(replyDtos);
-            }
+        // 부모 + 대댓글 전체의 좋아요 수/좋아요 여부를 한 번에 조회 - N+1 방지
+        List<Long> allCommentIds = new ArrayList<>(parentIds);
+        allReplies.forEach(reply -> allCommentIds.add(reply.getId()));
+        Map<Long, Long> likeCountMap = new HashMap<>();
+        Set<Long> likedCommentIds = new HashSet<>();
+        loadCommentLikes(allCommentIds, userId, likeCountMap, likedCommentIds);
+        
+        return parentComments.stream().filter(Objects::nonNull).map(parent -> {
+            CommentDto dto = toCommentDto(parent, likeCountMap, likedCommentIds);
+            List<Comment> replies = repliesMap.getOrDefault(parent.getId(), Collections.emptyList());
+            List<CommentDto> replyDtos = replies.stream()
+                    .map(reply -> toCommentDto(reply, likeCountMap, likedCommentIds))
+                    .collect(Collectors.toList());
+            dto.setReplies(replyDtos);
             return dto;
-        }).filter(Objects::nonNull).collect(Collectors.toList());
+        }).collect(Collectors.toList());
+    }
+    
+    /**
+     * Comment 페이지를 CommentDto 페이지로 변환 (페이지 단위 배치 조회, N+1 방지)
+     * @param comments 댓글 페이지
+     * @param userId 현재 사용자 ID
+     * @return CommentDto 페이지
+     */
+    public Page<CommentDto> convertToCommentDtoPage(Page<Comment> comments, Long userId) {
+        return new PageImpl<>(convertToCommentDtos(comments.getContent(), userId), comments.getPageable(), comments.getTotalElements());
+    }
+    
+    /**
+     * 최상위 댓글 페이지를 CommentDto 페이지로 변환 (대댓글 포함, 페이지 단위 배치 조회)
+     * 페이지당 대댓글 1회 + 좋아요 수/좋아요 여부 1회 조회
+     * @param parentComments 최상위 댓글 페이지
+     * @param userId 현재 사용자 ID
+     * @return CommentDto 페이지 (대댓글 포함)
+     */
+    public Page<CommentDto> convertToCommentDtoPageWithReplies(Page<Comment> parentComments, Long userId) {
+        return new PageImpl<>(convertToCommentDtosWithReplies(parentComments.getContent(), userId),
+                parentComments.getPageable(), parentComments.getTotalElements());
     }
     
     /**
@@ -0,0 +1,119 @@
+package com.drink.balancegame.service;
+
+import com.drink.balancegame.entity.BalanceGame;
+import com.drink.balancegame.repository.BalanceGameRepository;
+import com.drink.balancegame.util.TransactionUtils;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 게임 삭제 서비스
+ * 자식 엔티티를 영속성 컨텍스트에 올려 한 행씩 지우는 대신 집합 단위 DELETE 문을 의존 순서대로 실행
+ * 투표/좋아요/댓글은 먼저 청크(기본 1000행) 단위의 짧은 트랜잭션으로 나눠 지우고,
+ * 마지막 트랜잭션에서 게임 행을 잠근 뒤 그 사이 추가된 나머지 행과 게임을 함께 삭제
+ * 메모리 사용량은 자식 행 수와 무관하고, 커넥션 점유는 청크 하나 동안으로 제한되어 청크 사이에 다른 요청이 커넥션을 사용할 수 있음
+ * (호출자는 트랜잭션 밖에서 호출해야 함)
+ */
+@Service
+@Slf4j
+public class GameDeletionService {
+
+    /** 청크 삭제 문 (의존 순서, 파라미터: 게임 ID, 청크 크기) */
+    private static final List<String> CHUNK_DELETES = List.of(
+            "DELETE FROM likes WHERE id IN (SELECT l.id FROM likes l JOIN comments c ON c.id = l.comment_id"
+                    + " WHERE c.balance_game_id = ? ORDER BY l.id LIMIT ?)",
+            "DELETE FROM likes WHERE id IN (SELECT id FROM likes WHERE balance_game_id = ? ORDER BY id LIMIT ?)",
+            "DELETE FROM votes WHERE id IN (SELECT id FROM votes WHERE balance_game_id = ? ORDER BY id LIMIT ?)",
+            // 답글이 없는 댓글부터 삭제하므로 답글 깊이와 관계없이 잎에서 뿌리 순으로 지워짐
+            "DELETE FROM comments WHERE id IN (SELECT c.id FROM comments c WHERE c.balance_game_id = ?"
+                    + " AND NOT EXISTS (SELECT 1 FROM comments r WHERE r.parent_comment_id = c.id) ORDER BY c.id LIMIT ?)");
+
+    /** 마지막 트랜잭션의 문 (의존 순서, 파라미터: 게임 ID) */
+    private static final List<String> FINAL_STATEMENTS = List.of(
+            "DELETE FROM likes WHERE comment_id IN (SELECT id FROM comments WHERE balance_game_id = ?)",
+            "DELETE FROM likes WHERE balance_game_id = ?",
+            "DELETE FROM votes WHERE balance_game_id = ?",
+            "UPDATE comments SET parent_comment_id = NULL WHERE balance_game_id = ? AND parent_comment_id IS NOT NULL",
+            "DELETE FROM comments WHERE balance_game_id = ?",
+            "DELETE FROM game_stats WHERE game_id = ?",
+            "DELETE FROM balance_games WHERE id = ?");
+
+    /** 게임 행 잠금 (삭제 중 새 투표/댓글/좋아요 INSERT는 커밋까지 대기한 뒤 외래 키 오류로 실패) */
+    private static final String LOCK_GAME_SQL = "SELECT id FROM balance_games WHERE id = ? FOR UPDATE";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final BalanceGameRepository balanceGameRepository;
+    private final GameStatsService gameStatsService;
+    private final GameSearchService gameSearchService;
+    private final ViewCountBuffer viewCountBuffer;
+    private final int chunkSize;
+
+    public GameDeletionService(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               EntityManagerFactory entityManagerFactory,
+                               BalanceGameRepository balanceGameRepository,
+                               GameStatsService gameStatsService,
+                               GameSearchService gameSearchService,
+                               ViewCountBuffer viewCountBuffer,
+                               @Value("${app.game-deletion.chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManagerFactory = entityManagerFactory;
+        this.balanceGameRepository = balanceGameRepository;
+        this.gameStatsService = gameStatsService;
+        this.gameSearchService = gameSearchService;
+        this.viewCountBuffer = viewCountBuffer;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 게임과 투표/댓글/좋아요/통계 삭제 (권한 확인은 호출자 책임)
+     * @param gameId 게임 ID
+     * @return 삭제 여부 (게임이 없으면 false)
+     */
+    public boolean delete(Long gameId) {
+        if (!balanceGameRepository.existsById(gameId)) {
+            return false;
+        }
+
+        long purged = 0;
+        for (String sql : CHUNK_DELETES) {
+            int deleted;
+            do {
+                deleted = transactionTemplate.execute(status -> jdbcTemplate.update(sql, gameId, chunkSize));
+                purged += deleted;
+            } while (deleted > 0);
+        }
+
+        Boolean removed = transactionTemplate.execute(status -> {
+            if (jdbcTemplate.queryForList(LOCK_GAME_SQL, Long.class, gameId).isEmpty()) {
+                // 다른 요청이 먼저 삭제함
+                return false;
+            }
+            FINAL_STATEMENTS.forEach(sql -> jdbcTemplate.update(sql, gameId));
+
+            gameStatsService.evict(gameId);
+            gameSearchService.remove(gameId);
+            TransactionUtils.runAfterCommit(() -> {
+                viewCountBuffer.discard(gameId);
+                entityManagerFactory.getCache().evict(BalanceGame.class, gameId);
+            });
+            return true;
+        });
+
+        if (Boolean.TRUE.equals(removed)) {
+            log.info("게임 삭제 완료 - 게임 ID: {}, 청크 삭제 행 수: {}", gameId, purged);
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,290 @@
+package com.drink.balancegame.service;
+
+import com.drink.balancegame.dto.GameLiveDto;
+import com.drink.balancegame.entity.GameStats;
+import com.drink.balancegame.repository.GameStatsRepository;
+import com.drink.balancegame.util.TransactionUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게임 상세 화면 실시간 집계 서비스 (Server-Sent Events)
+ * 투표/좋아요가 커밋되면 게임을 변경됨으로 표시만 하고, 주기적으로(기본 250ms) 최신 A/B/좋아요 수를
+ * 구독자에게 한 번에 전송하므로 게임당 전송 횟수는 초당 최대 4회
+ * 구독은 비동기 서블릿(SseEmitter)으로 유지되어 요청 스레드를 점유하지 않고,
+ * 투표 수는 VoteTallyCache에서 읽고, 좋아요 수는 좋아요가 바뀐 게임만 전송 주기마다 game_stats에서 한 번 읽음
+ * (기본키 조회 1회, 구독자 수와 무관 - 증분 누적이 아니라 표의 값을 읽으므로 구독이 오래 유지되어도 오차가 쌓이지 않음)
+ * 전송은 전용 스레드 하나에서 하므로 느린 클라이언트에 대한 쓰기가 막혀도 다른 @Scheduled 작업(조회수 반영 등)은 밀리지 않음
+ */
+@Service
+@Slf4j
+public class GameLiveService {
+
+    private final VoteTallyCache voteTallyCache;
+    private final GameStatsRepository gameStatsRepository;
+    private final long emitterTimeoutMs;
+    private final int maxSubscribers;
+    private final long pushIntervalMs;
+    private final long heartbeatIntervalMs;
+
+    /** 집계/하트비트 전송 전용 스레드 (Spring 기본 스케줄러 스레드와 분리) */
+    private final ScheduledExecutorService pushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sse-push");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** 구독자가 있는 게임별 채널 */
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+
+    /** 전체 구독자 수 */
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    public GameLiveService(VoteTallyCache voteTallyCache,
+                           GameStatsRepository gameStatsRepository,
+                           @Value("${app.live.emitter-timeout-ms:1800000}") long emitterTimeoutMs,
+                           @Value("${app.live.max-subscribers:2000}") int maxSubscribers,
+                           @Value("${app.live.push-interval-ms:250}") long pushIntervalMs,
+                           @Value("${app.live.heartbeat-interval-ms:25000}") long heartbeatIntervalMs) {
+        this.voteTallyCache = voteTallyCache;
+        this.gameStatsRepository = gameStatsRepository;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.maxSubscribers = maxSubscribers;
+        this.pushIntervalMs = pushIntervalMs;
+        this.heartbeatIntervalMs = heartbeatIntervalMs;
+    }
+
+    @PostConstruct
+    void startPushing() {
+        pushExecutor.scheduleWithFixedDelay(() -> runSafely(this::pushChanges),
+                pushIntervalMs, pushIntervalMs, TimeUnit.MILLISECONDS);
+        pushExecutor.scheduleWithFixedDelay(() -> runSafely(this::heartbeat),
+                heartbeatIntervalMs, heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stopPushing() {
+        pushExecutor.shutdownNow();
+    }
+
+    /**
+     * 게임 실시간 집계 구독 (구독 직후 현재 집계를 한 번 전송)
+     * @param gameId 게임 ID
+     * @return SSE 연결 (게임이 없으면 empty)
+     * @throws IllegalStateException 구독자 수가 상한에 도달했을 때
+     */
+    public Optional<SseEmitter> subscribe(Long gameId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new IllegalStateException("실시간 구독자 수가 너무 많습니다.");
+        }
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Channel channel;
+        do {
+            // DB 조회는 맵 잠금 밖에서 (조회 중에 같은 버킷의 다른 게임 구독/해지가 막히지 않도록)
+            GameStats loaded = null;
+            if (!channels.containsKey(gameId)) {
+                Optional<GameStats> stats = gameStatsRepository.findById(gameId);
+                if (stats.isEmpty()) {
+                    subscriberCount.decrementAndGet();
+                    return Optional.empty();
+                }
+                loaded = stats.get();
+            }
+            GameStats preloaded = loaded;
+            // 채널 생성/제거와 구독자 추가/삭제를 같은 키 잠금 안에서 처리해 제거된 채널에 구독자가 남지 않도록 함
+            // 확인 직후 마지막 구독자가 나가 채널이 제거되었으면 좋아요 수를 다시 읽어 재시도
+            // 새 채널은 조회와 생성 사이에 커밋된 좋아요를 놓쳤을 수 있으므로 다음 전송 주기에 다시 읽음
+            channel = channels.compute(gameId, (id, existing) -> {
+                Channel target = existing != null ? existing
+                        : preloaded != null ? Channel.created(preloaded.getLikeCount()) : null;
+                if (target != null) {
+                    target.emitters.add(emitter);
+                }
+                return target;
+            });
+        } while (channel == null);
+        Runnable unsubscribe = () -> unsubscribe(gameId, emitter);
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(e -> unsubscribe.run());
+
+        send(emitter, snapshot(gameId, channel));
+        return Optional.of(emitter);
+    }
+
+    /**
+     * 투표 변경 알림 (트랜잭션 안이면 커밋 이후에 반영)
+     * @param gameId 게임 ID
+     */
+    public void votesChanged(Long gameId) {
+        TransactionUtils.runAfterCommit(() -> {
+            Channel channel = channels.get(gameId);
+            if (channel != null) {
+                channel.dirty.set(true);
+            }
+        });
+    }
+
+    /**
+     * 좋아요 변경 알림 (트랜잭션 안이면 커밋 이후에 반영)
+     * 좋아요 수는 다음 전송 주기에 game_stats에서 다시 읽음
+     * @param gameId 게임 ID
+     */
+    public void likeChanged(Long gameId) {
+        TransactionUtils.runAfterCommit(() -> {
+            Channel channel = channels.get(gameId);
+            if (channel != null) {
+                channel.likesChanged.set(true);
+                channel.dirty.set(true);
+            }
+        });
+    }
+
+    /**
+     * 게임 삭제 시 구독 종료
+     * @param gameId 게임 ID
+     */
+    public void closeGame(Long gameId) {
+        TransactionUtils.runAfterCommit(() -> {
+            Channel channel = channels.get(gameId);
+            if (channel != null) {
+                channel.emitters.forEach(SseEmitter::complete);
+            }
+        });
+    }
+
+    /**
+     * 변경된 게임의 최신 집계를 구독자에게 전송 (변경 여러 건을 한 번으로 합침)
+     * 좋아요가 바뀐 게임은 game_stats에서 좋아요 수를 한 번 읽음
+     */
+    public void pushChanges() {
+        channels.forEach((gameId, channel) -> {
+            if (channel.dirty.compareAndSet(true, false)) {
+                if (channel.likesChanged.compareAndSet(true, false)) {
+                    try {
+                        gameStatsRepository.findById(gameId)
+                                .ifPresent(stats -> channel.likeCount.set(likeCountOf(stats.getLikeCount())));
+                    } catch (RuntimeException e) {
+                        // 다음 주기에 다시 읽도록 표시를 되돌림
+                        channel.likesChanged.set(true);
+                        channel.dirty.set(true);
+                        throw e;
+                    }
+                }
+                GameLiveDto payload = snapshot(gameId, channel);
+                channel.emitters.forEach(emitter -> send(emitter, payload));
+            }
+        });
+    }
+
+    /**
+     * 프록시가 유휴 연결을 끊지 않도록 주기적으로 주석 이벤트 전송
+     */
+    public void heartbeat() {
+        channels.values().forEach(channel -> channel.emitters.forEach(emitter -> {
+            try {
+                emitter.send(SseEmitter.event().comment("ping"));
+            } catch (IOException | IllegalStateException e) {
+                emitter.completeWithError(e);
+            }
+        }));
+    }
+
+    /**
+     * 예외가 나도 다음 주기 실행이 취소되지 않도록 로그만 남김
+     */
+    private static void runSafely(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            log.warn("실시간 집계 전송 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    private GameLiveDto snapshot(Long gameId, Channel channel) {
+        VoteTallyCache.Tally tally = voteTallyCache.get(gameId);
+        long optionAVotes = tally.getOptionA();
+        long optionBVotes = tally.getOptionB();
+        long totalVotes = optionAVotes + optionBVotes;
+        return GameLiveDto.builder()
+                .balanceGameId(gameId)
+                .optionAVotes(optionAVotes)
+                .optionBVotes(optionBVotes)
+                .totalVotes(totalVotes)
+                .optionAPercentage(totalVotes > 0 ? (double) optionAVotes / totalVotes * 100 : 0)
+                .optionBPercentage(totalVotes > 0 ? (double) optionBVotes / totalVotes * 100 : 0)
+                .likeCount(Math.max(0, channel.likeCount.get()))
+                .build();
+    }
+
+    private void send(SseEmitter emitter, GameLiveDto payload) {
+        try {
+            emitter.send(SseEmitter.event().name("stats").data(payload, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            // 끊긴 연결은 onError/onCompletion 콜백에서 정리됨
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void unsubscribe(Long gameId, SseEmitter emitter) {
+        AtomicBoolean removed = new AtomicBoolean();
+        // 마지막 구독자가 나가면 채널 제거 (다음 구독 시 좋아요 수를 다시 읽음)
+        channels.computeIfPresent(gameId, (id, channel) -> {
+            removed.set(channel.emitters.remove(emitter));
+            return channel.emitters.isEmpty() ? null : channel;
+        });
+        if (removed.get()) {
+            subscriberCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * 게임 하나의 구독 채널
+     */
+    private static final class Channel {
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        /** 마지막으로 game_stats에서 읽은 좋아요 수 */
+        private final AtomicLong likeCount;
+        private final AtomicBoolean dirty = new AtomicBoolean();
+        /** 좋아요 수를 다시 읽어야 하는지 */
+        private final AtomicBoolean likesChanged = new AtomicBoolean();
+
+        private Channel(long likeCount) {
+            this.likeCount = new AtomicLong(likeCount);
+        }
+
+        /**
+         * 구독 시 읽은 좋아요 수로 채널 생성 (다음 전송 주기에 한 번 더 읽도록 표시)
+         */
+        static Channel created(Long likeCount) {
+            Channel channel = new Channel(likeCountOf(likeCount));
+            channel.likesChanged.set(true);
+            channel.dirty.set(true);
+            return channel;
+        }
+    }
+
+    private static long likeCountOf(Long likeCount) {
+        return likeCount != null ? likeCount : 0L;
+    }
+}
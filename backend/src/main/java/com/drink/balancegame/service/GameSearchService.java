@@ -0,0 +1,521 @@
+package com.drink.balancegame.service;
+
+import com.drink.balancegame.dto.GameSummaryRow;
+import com.drink.balancegame.entity.BalanceGame;
+import com.drink.balancegame.repository.BalanceGameRepository;
+import com.drink.balancegame.util.HangulUtils;
+import com.drink.balancegame.util.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * 게임 검색 서비스 (메모리 내 역색인)
+ * 제목/선택지/설명을 글자 2-gram 단위로 색인해 띄어쓰기 없는 한글도 부분 일치로 검색
+ * 검색 시에는 검색어의 모든 2-gram을 포함한 게임만 골라 필드 가중치 합으로 순위를 매기므로
+ * 게임 수와 무관하게 LIKE '%q%' 전체 스캔 없이 응답
+ * 게임 생성/수정/삭제 시 커밋 이후에 증분 반영하고(자동완성 색인에도 변경 게임 표시), 시작 시 전체를 한 번 적재
+ * 색인 추정 크기가 메모리 예산(app.search.max-index-mb)을 넘으면 색인을 비우고 DB 검색(제목/선택지 LIKE)으로 전환
+ */
+@Service
+@Slf4j
+public class GameSearchService {
+
+    /** 시작 시 한 번에 읽어 올 게임 수 */
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    /**
+     * 색인 크기 추정용 단위 크기 (바이트)
+     * 항목 하나 = 역색인의 long 하나(배열 여유분 포함) + 게임별 항목 번호 가변 길이 바이트,
+     * 게임 하나 = documents 맵 항목과 배열 헤더, 역색인 항목 하나 = TreeMap 항목 + 2-gram 문자열 + PostingList
+     */
+    private static final long BYTES_PER_POSTING = 10;
+    private static final long BYTES_PER_GAME = 120;
+    private static final long BYTES_PER_POSTING_LIST = 160;
+
+    /** optionA/optionB 컬럼명은 CamelCaseToUnderscoresNamingStrategy 규칙상 optiona/optionb (끝 대문자 앞에는 밑줄 없음) */
+    private static final String LOAD_SQL = """
+            SELECT id, title, optiona, optionb, description
+            FROM balance_games
+            WHERE id > ?
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    /**
+     * 색인 필드와 순위 가중치
+     */
+    private enum Field {
+        TITLE(4), OPTION(2), DESCRIPTION(1);
+
+        private final int weight;
+
+        Field(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    private final BalanceGameRepository balanceGameRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final GameSuggestService gameSuggestService;
+
+    /** 필드별 역색인 (2-gram -> 게임 ID 목록), 1글자 검색어는 접두어 범위로 찾기 위해 정렬 맵 사용 */
+    private final Map<Field, TreeMap<String, PostingList>> postings = new HashMap<>();
+
+    /** 번호 -> 역색인 항목 (게임별로 항목을 번호로 가리키기 위함, 비워진 번호는 재사용) */
+    private final List<PostingList> postingsById = new ArrayList<>();
+    private final Deque<Integer> freePostingIds = new ArrayDeque<>();
+
+    /**
+     * 게임별로 들어가 있는 역색인 항목 번호 (수정/삭제 시 기존 색인 제거용)
+     * 원문 대신 정렬된 번호의 차이값을 가변 길이 바이트로 보관해 게임당 수십~수백 바이트로 유지
+     */
+    private final Map<Long, byte[]> documents = new HashMap<>();
+
+    /** 역색인에 들어 있는 (2-gram, 게임) 항목 수 */
+    private long postingCount;
+
+    /** 색인 사용 여부 (메모리 예산을 넘으면 false, 다음 전체 적재 때 다시 판단) */
+    private volatile boolean indexed = true;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** 설명은 앞부분만 색인 (0이면 제목/선택지만) */
+    private final int maxDescriptionLength;
+
+    /** 색인 메모리 예산 (바이트) */
+    private final long maxIndexBytes;
+
+    public GameSearchService(BalanceGameRepository balanceGameRepository, JdbcTemplate jdbcTemplate,
+                             GameSuggestService gameSuggestService,
+                             @Value("${app.search.max-description-length:100}") int maxDescriptionLength,
+                             @Value("${app.search.max-index-mb:48}") long maxIndexMb) {
+        this.balanceGameRepository = balanceGameRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.gameSuggestService = gameSuggestService;
+        this.maxDescriptionLength = maxDescriptionLength;
+        this.maxIndexBytes = maxIndexMb * 1024 * 1024;
+        for (Field field : Field.values()) {
+            postings.put(field, new TreeMap<>());
+        }
+    }
+
+    /**
+     * 게임 검색 (관련도순, 같으면 최신순)
+     * @param query 검색어 (공백으로 구분된 단어는 모두 포함되어야 함)
+     * @param pageable 페이징 정보 (정렬은 무시)
+     * @return 통계 정보가 포함된 게임 목록
+     */
+    public Page<GameSummaryRow> search(String query, Pageable pageable) {
+        if (!indexed) {
+            // 색인이 메모리 예산을 넘어 꺼진 상태 - 검색어 전체를 제목/선택지에서 부분 일치로 찾고 최신순 정렬
+            if (query == null || query.isBlank()) {
+                return new PageImpl<>(Collections.emptyList(), pageable, 0);
+            }
+            return balanceGameRepository.searchWithStats(query.trim(), pageable);
+        }
+        List<Long> ranked = rank(query);
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        List<Long> ids = ranked.subList(from, to);
+        if (ids.isEmpty()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, ranked.size());
+        }
+
+        Map<Long, GameSummaryRow> rowsById = new HashMap<>();
+        for (GameSummaryRow row : balanceGameRepository.findAllWithStatsByIdIn(new ArrayList<>(ids))) {
+            rowsById.put(row.id(), row);
+        }
+        List<GameSummaryRow> rows = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            GameSummaryRow row = rowsById.get(id);
+            if (row != null) {
+                rows.add(row);
+            }
+        }
+        return new PageImpl<>(rows, pageable, ranked.size());
+    }
+
+    /**
+     * 게임 색인 추가/갱신 (트랜잭션 안이면 커밋 이후에 반영)
+     * @param game 저장된 게임
+     */
+    public void index(BalanceGame game) {
+        Long gameId = game.getId();
+        Map<Field, String> document = toDocument(game.getTitle(), game.getOptionA(), game.getOptionB(), game.getDescription());
+        TransactionUtils.runAfterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                if (indexed) {
+                    removeDocument(gameId);
+                    addDocument(gameId, document);
+                    if (estimatedBytes() > maxIndexBytes) {
+                        disableIndex();
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            gameSuggestService.markDirty(gameId);
+        });
+    }
+
+    /**
+     * 게임 색인 제거 (트랜잭션 안이면 커밋 이후에 반영)
+     * @param gameId 게임 ID
+     */
+    public void remove(Long gameId) {
+        TransactionUtils.runAfterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                removeDocument(gameId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            gameSuggestService.markDirty(gameId);
+        });
+    }
+
+    /**
+     * balance_games 테이블 전체를 다시 색인
+     */
+    public void rebuild() {
+        Map<Long, Map<Field, String>> loaded = new HashMap<>();
+        // 역색인 항목 수 추정치 (예산을 넘으면 나머지는 읽지 않고 DB 검색으로 전환)
+        long[] estimatedPostings = {0};
+        long lastId = 0;
+        int fetched;
+        do {
+            List<Long> ids = new ArrayList<>();
+            jdbcTemplate.query(LOAD_SQL, rs -> {
+                long id = rs.getLong(1);
+                ids.add(id);
+                Map<Field, String> document = toDocument(rs.getString(2), rs.getString(3), rs.getString(4), rs.getString(5));
+                document.values().forEach(text -> estimatedPostings[0] += documentGrams(text).size());
+                loaded.put(id, document);
+            }, lastId, LOAD_CHUNK_SIZE);
+            fetched = ids.size();
+            if (fetched > 0) {
+                lastId = ids.get(fetched - 1);
+            }
+        } while (fetched == LOAD_CHUNK_SIZE
+                && estimatedPostings[0] * BYTES_PER_POSTING + loaded.size() * BYTES_PER_GAME <= maxIndexBytes);
+
+        long size;
+        lock.writeLock().lock();
+        try {
+            clearIndex();
+            indexed = true;
+            if (fetched == LOAD_CHUNK_SIZE) {
+                // 끝까지 읽기 전에 예산을 넘음
+                disableIndex();
+                return;
+            }
+            loaded.forEach(this::addDocument);
+            size = estimatedBytes();
+            if (size > maxIndexBytes) {
+                disableIndex();
+                return;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("게임 검색 색인 완료 - 게임 수: {}, 추정 크기: {}KB", loaded.size(), size / 1024);
+    }
+
+    /**
+     * 애플리케이션 시작 시 검색 색인 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("게임 검색 색인 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    private List<Long> rank(String query) {
+        List<String> grams = queryGrams(query);
+        if (grams.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, Integer> scores;
+        lock.readLock().lock();
+        try {
+            // 결과가 적은 2-gram부터 교집합을 구해 후보 수를 빨리 줄임
+            List<Map<Long, Integer>> perGram = new ArrayList<>(grams.size());
+            for (String gram : grams) {
+                Map<Long, Integer> matched = match(gram);
+                if (matched.isEmpty()) {
+                    return Collections.emptyList();
+                }
+                perGram.add(matched);
+            }
+            perGram.sort(Comparator.comparingInt(Map::size));
+
+            scores = new HashMap<>(perGram.get(0));
+            for (int i = 1; i < perGram.size() && !scores.isEmpty(); i++) {
+                Map<Long, Integer> matched = perGram.get(i);
+                scores.keySet().retainAll(matched.keySet());
+                scores.replaceAll((id, score) -> score + matched.get(id));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Long> ranked = new ArrayList<>(scores.keySet());
+        ranked.sort(Comparator.<Long>comparingInt(scores::get).reversed().thenComparing(Comparator.reverseOrder()));
+        return ranked;
+    }
+
+    /**
+     * 2-gram 하나를 포함한 게임과 점수 (여러 필드에 있으면 가장 높은 가중치)
+     */
+    private Map<Long, Integer> match(String gram) {
+        Map<Long, Integer> matched = new HashMap<>();
+        for (Field field : Field.values()) {
+            TreeMap<String, PostingList> index = postings.get(field);
+            Collection<PostingList> lists = gram.length() == 1
+                    ? index.subMap(gram, true, gram + Character.MAX_VALUE, true).values()
+                    : index.containsKey(gram) ? List.of(index.get(gram)) : Collections.emptyList();
+            for (PostingList list : lists) {
+                list.forEach(id -> matched.merge(id, field.weight, Math::max));
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * 색인 추정 크기 (쓰기 잠금 안에서 호출)
+     */
+    private long estimatedBytes() {
+        long postingLists = postingsById.size() - freePostingIds.size();
+        return postingCount * BYTES_PER_POSTING + documents.size() * BYTES_PER_GAME + postingLists * BYTES_PER_POSTING_LIST;
+    }
+
+    /**
+     * 메모리 예산을 넘어 색인을 비우고 DB 검색으로 전환 (쓰기 잠금 안에서 호출)
+     */
+    private void disableIndex() {
+        log.warn("게임 검색 색인이 메모리 예산({}MB)을 넘어 DB 검색으로 전환합니다 - 게임 수: {}",
+                maxIndexBytes / 1024 / 1024, documents.size());
+        clearIndex();
+        indexed = false;
+    }
+
+    private void clearIndex() {
+        postings.values().forEach(Map::clear);
+        postingsById.clear();
+        freePostingIds.clear();
+        documents.clear();
+        postingCount = 0;
+    }
+
+    private void addDocument(Long gameId, Map<Field, String> document) {
+        List<Integer> postingIds = new ArrayList<>();
+        document.forEach((field, text) -> {
+            TreeMap<String, PostingList> index = postings.get(field);
+            for (String gram : documentGrams(text)) {
+                PostingList list = index.computeIfAbsent(gram, g -> newPostingList(field, g));
+                if (list.add(gameId)) {
+                    postingCount++;
+                }
+                postingIds.add(list.id);
+            }
+        });
+        documents.put(gameId, encode(postingIds.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    private void removeDocument(Long gameId) {
+        byte[] postingIds = documents.remove(gameId);
+        if (postingIds == null) {
+            return;
+        }
+        decode(postingIds, id -> {
+            PostingList list = postingsById.get(id);
+            if (list.remove(gameId)) {
+                postingCount--;
+                if (list.isEmpty()) {
+                    postings.get(list.field).remove(list.gram);
+                    postingsById.set(id, null);
+                    freePostingIds.push(id);
+                }
+            }
+        });
+    }
+
+    private PostingList newPostingList(Field field, String gram) {
+        Integer id = freePostingIds.poll();
+        if (id == null) {
+            id = postingsById.size();
+            postingsById.add(null);
+        }
+        PostingList list = new PostingList(id, field, gram);
+        postingsById.set(id, list);
+        return list;
+    }
+
+    /**
+     * 항목 번호 목록을 정렬해 이전 번호와의 차이를 7비트 가변 길이로 인코딩 (대부분 1~2바이트)
+     */
+    private static byte[] encode(int[] ids) {
+        Arrays.sort(ids);
+        byte[] out = new byte[ids.length * 5];
+        int pos = 0;
+        int previous = 0;
+        for (int id : ids) {
+            int delta = id - previous;
+            previous = id;
+            while ((delta & ~0x7F) != 0) {
+                out[pos++] = (byte) ((delta & 0x7F) | 0x80);
+                delta >>>= 7;
+            }
+            out[pos++] = (byte) delta;
+        }
+        return Arrays.copyOf(out, pos);
+    }
+
+    private static void decode(byte[] encoded, IntConsumer action) {
+        int pos = 0;
+        int previous = 0;
+        while (pos < encoded.length) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = encoded[pos++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            previous += delta;
+            action.accept(previous);
+        }
+    }
+
+    private Map<Field, String> toDocument(String title, String optionA, String optionB, String description) {
+        Map<Field, String> document = new HashMap<>();
+        document.put(Field.TITLE, HangulUtils.normalize(title));
+        // 선택지 A/B는 같은 필드로 색인, 경계에서 2-gram이 이어지지 않도록 구분자 삽입
+        document.put(Field.OPTION, HangulUtils.normalize(optionA) + " " + HangulUtils.normalize(optionB));
+        if (maxDescriptionLength > 0) {
+            String desc = description != null && description.length() > maxDescriptionLength
+                    ? description.substring(0, maxDescriptionLength) : description;
+            document.put(Field.DESCRIPTION, HangulUtils.normalize(desc));
+        }
+        return document;
+    }
+
+    /**
+     * 문서 2-gram 목록 (각 구간의 마지막 글자는 1글자 검색어의 접두어 검색을 위해 단독으로 추가)
+     */
+    private static Set<String> documentGrams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String part : text.split(" ")) {
+            for (int i = 0; i + 1 < part.length(); i++) {
+                grams.add(part.substring(i, i + 2));
+            }
+            if (!part.isEmpty()) {
+                grams.add(part.substring(part.length() - 1));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 검색어 2-gram 목록 (공백으로 나뉜 단어별로 생성, 1글자 단어는 그대로 사용)
+     */
+    private static List<String> queryGrams(String query) {
+        if (query == null) {
+            return Collections.emptyList();
+        }
+        Set<String> grams = new LinkedHashSet<>();
+        for (String token : query.trim().split("\\s+")) {
+            String normalized = HangulUtils.normalize(token);
+            if (normalized.length() == 1) {
+                grams.add(normalized);
+            }
+            for (int i = 0; i + 1 < normalized.length(); i++) {
+                grams.add(normalized.substring(i, i + 2));
+            }
+        }
+        return new ArrayList<>(grams);
+    }
+
+    /**
+     * 역색인 항목 하나 (필드의 2-gram 하나를 포함한 게임 ID를 정렬된 배열로 박싱 없이 보관)
+     */
+    private static final class PostingList {
+        private final int id;
+        private final Field field;
+        private final String gram;
+        private long[] ids = new long[2];
+        private int size;
+
+        PostingList(int id, Field field, String gram) {
+            this.id = id;
+            this.field = field;
+            this.gram = gram;
+        }
+
+        boolean add(long id) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos >= 0) {
+                return false;
+            }
+            int insertAt = -pos - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+            return true;
+        }
+
+        boolean remove(long id) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos < 0) {
+                return false;
+            }
+            System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+            size--;
+            return true;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void forEach(LongConsumer action) {
+            for (int i = 0; i < size; i++) {
+                action.accept(ids[i]);
+            }
+        }
+    }
+}
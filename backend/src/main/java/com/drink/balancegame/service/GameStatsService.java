@@ -0,0 +1,216 @@
+package com.drink.balancegame.service;
+
+import com.drink.balancegame.entity.GameStats;
+import com.drink.balancegame.entity.Vote;
+import com.drink.balancegame.repository.CommentRepository;
+import com.drink.balancegame.repository.GameStatsRepository;
+import com.drink.balancegame.repository.LikeRepository;
+import com.drink.balancegame.repository.VoteRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게임 통계(game_stats) 관리 서비스
+ * 좋아요/투표/댓글 쓰기 시 카운터를 증감하고, 누락된 통계 행을 원본 테이블에서 재계산
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class GameStatsService {
+
+    /** 백필 시 한 번에 재계산할 게임 수 */
+    private static final int BACKFILL_CHUNK_SIZE = 500;
+
+    private final GameStatsRepository gameStatsRepository;
+    private final LikeRepository likeRepository;
+    private final VoteRepository voteRepository;
+    private final CommentRepository commentRepository;
+    private final VoteTallyCache voteTallyCache;
+    private final LeaderboardService leaderboardService;
+    private final GameLiveService gameLiveService;
+
+    /**
+     * 새 게임의 빈 통계 행 생성
+     * @param gameId 게임 ID
+     */
+    @Transactional
+    public void initialize(Long gameId) {
+        gameStatsRepository.save(GameStats.empty(gameId));
+    }
+
+    /**
+     * 게임 좋아요 수 증감
+     * @param gameId 게임 ID
+     * @param delta 증감값 (+1: 좋아요, -1: 좋아요 취소)
+     */
+    @Transactional
+    public void recordGameLike(Long gameId, long delta) {
+        if (gameStatsRepository.incrementLikeCount(gameId, delta) == 0) {
+            refresh(List.of(gameId));
+        }
+        leaderboardService.recordLike(gameId, delta);
+        gameLiveService.likeChanged(gameId);
+    }
+
+    /**
+     * 새 투표 반영
+     * @param gameId 게임 ID
+     * @param option 선택된 옵션
+     */
+    @Transactional
+    public void recordVoteCreated(Long gameId, Vote.VoteOption option) {
+        applyVoteDelta(gameId, option == Vote.VoteOption.A ? 1 : 0, option == Vote.VoteOption.B ? 1 : 0);
+    }
+
+    /**
+     * 투표 변경 반영 (기존 옵션 -1, 새 옵션 +1)
+     * @param gameId 게임 ID
+     * @param from 기존 옵션
+     * @param to 새 옵션
+     */
+    @Transactional
+    public void recordVoteSwitched(Long gameId, Vote.VoteOption from, Vote.VoteOption to) {
+        if (from == to) {
+            return;
+        }
+        applyVoteDelta(gameId, to == Vote.VoteOption.A ? 1 : -1, to == Vote.VoteOption.B ? 1 : -1);
+    }
+
+    /**
+     * 투표 취소 반영
+     * @param gameId 게임 ID
+     * @param option 취소된 옵션
+     */
+    @Transactional
+    public void recordVoteCancelled(Long gameId, Vote.VoteOption option) {
+        applyVoteDelta(gameId, option == Vote.VoteOption.A ? -1 : 0, option == Vote.VoteOption.B ? -1 : 0);
+    }
+
+    /**
+     * 여러 투표의 순변화를 한 번에 반영 (투표 일괄 반영용)
+     * @param gameId 게임 ID
+     * @param deltaA 옵션 A 증감값
+     * @param deltaB 옵션 B 증감값
+     */
+    @Transactional
+    public void recordVotes(Long gameId, long deltaA, long deltaB) {
+        if (deltaA == 0 && deltaB == 0) {
+            return;
+        }
+        applyVoteDelta(gameId, deltaA, deltaB);
+    }
+
+    /**
+     * 댓글 수 증감
+     * @param gameId 게임 ID
+     * @param delta 증감값 (삭제 시 대댓글 수까지 포함한 음수)
+     */
+    @Transactional
+    public void recordComments(Long gameId, long delta) {
+        if (gameStatsRepository.incrementCommentCount(gameId, delta) == 0) {
+            refresh(List.of(gameId));
+        }
+    }
+
+    /**
+     * 게임 삭제 시 통계 행 삭제
+     * @param gameId 게임 ID
+     */
+    @Transactional
+    public void remove(Long gameId) {
+        if (gameStatsRepository.existsById(gameId)) {
+            gameStatsRepository.deleteById(gameId);
+        }
+        evict(gameId);
+    }
+
+    /**
+     * 통계 행이 이미 삭제된 게임의 메모리 집계 제거 (투표 집계, 리더보드, 실시간 구독)
+     * @param gameId 게임 ID
+     */
+    public void evict(Long gameId) {
+        voteTallyCache.evict(gameId);
+        leaderboardService.removeGame(gameId);
+        gameLiveService.closeGame(gameId);
+    }
+
+    /**
+     * 원본 테이블에서 통계를 다시 계산해 저장 (배치 쿼리 3회)
+     * @param gameIds 재계산할 게임 ID 목록
+     */
+    @Transactional
+    public void refresh(Collection<Long> gameIds) {
+        if (gameIds == null || gameIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(gameIds);
+        Map<Long, Long> likeCounts = likeRepository.countByBalanceGameIdIn(ids);
+        Map<Long, Long> commentCounts = commentRepository.countByBalanceGameIdIn(ids);
+        Map<Long, DtoConversionService.VoteStats> voteStats = voteRepository.getVoteStatsByGameIds(ids);
+
+        List<GameStats> rows = new ArrayList<>(ids.size());
+        for (Long gameId : ids) {
+            DtoConversionService.VoteStats votes = voteStats.getOrDefault(gameId, new DtoConversionService.VoteStats(0L, 0L, 0L));
+            rows.add(GameStats.builder()
+                    .gameId(gameId)
+                    .likeCount(likeCounts.getOrDefault(gameId, 0L))
+                    .optionACount(votes.getOptionACount())
+                    .optionBCount(votes.getOptionBCount())
+                    .voteCount(votes.getTotalCount())
+                    .commentCount(commentCounts.getOrDefault(gameId, 0L))
+                    .build());
+        }
+        gameStatsRepository.saveAll(rows);
+    }
+
+    /**
+     * 통계 행이 없는 게임을 찾아 백필 (기존 DB 마이그레이션 및 시드 데이터용)
+     * @return 백필된 게임 수
+     */
+    @Transactional
+    public int backfillMissing() {
+        int total = 0;
+        List<Long> missing;
+        while (!(missing = gameStatsRepository.findGameIdsWithoutStats(PageRequest.of(0, BACKFILL_CHUNK_SIZE))).isEmpty()) {
+            refresh(missing);
+            gameStatsRepository.flush();
+            total += missing.size();
+        }
+        if (total > 0) {
+            log.info("게임 통계 백필 완료 - 게임 수: {}", total);
+        }
+        return total;
+    }
+
+    /**
+     * 애플리케이션 시작 시 누락된 통계 행 백필
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillOnStartup() {
+        try {
+            backfillMissing();
+        } catch (Exception e) {
+            log.warn("게임 통계 백필 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    private void applyVoteDelta(Long gameId, long deltaA, long deltaB) {
+        if (gameStatsRepository.incrementVoteCounts(gameId, deltaA, deltaB) == 0) {
+            refresh(List.of(gameId));
+        }
+        voteTallyCache.apply(gameId, deltaA, deltaB);
+        gameLiveService.votesChanged(gameId);
+    }
+}
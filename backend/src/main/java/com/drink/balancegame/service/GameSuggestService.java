@@ -0,0 +1,375 @@
+package com.drink.balancegame.service;
+
+import com.drink.balancegame.dto.GameSuggestionDto;
+import com.drink.balancegame.dto.GameSummaryRow;
+import com.drink.balancegame.repository.BalanceGameRepository;
+import com.drink.balancegame.util.HangulUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검색어 자동완성 서비스
+ * 게임 제목(정규화)과 제목의 초성 문자열을 각각 정렬된 접두어 색인으로 만들어 두고,
+ * 입력 중인 검색어로 시작하는 게임을 조회수 + 투표수 가중치 순으로 상위 k개 반환
+ * 제목 중간 단어부터 입력해도 찾을 수 있도록 단어 시작 위치마다 키를 추가
+ * 색인은 불변 스냅샷으로 교체하므로 조회 시 잠금이 없음
+ * 게임 변경 시에는 바뀐 게임만 다시 읽어 작은 보조 색인에 반영하고(기본 색인의 이전 항목은 제외 표시),
+ * 전체 재생성은 가중치 갱신 주기나 변경분이 많이 쌓였을 때만 수행
+ */
+@Service
+@Slf4j
+public class GameSuggestService {
+
+    /** 최대 반환 개수 */
+    private static final int MAX_SUGGESTIONS = 20;
+
+    /** 게임 하나당 키를 만드는 단어 시작 위치 수 */
+    private static final int MAX_WORD_STARTS = 6;
+
+    /** 상위 목록을 미리 계산해 두는 접두어 길이 (짧은 접두어는 범위가 넓음) */
+    private static final int PRECOMPUTED_PREFIX_LENGTH = 2;
+
+    /** 적재 시 한 번에 읽어 올 게임 수 */
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    /** 보조 색인에 쌓인 변경 게임 수가 이 값을 넘으면 전체 재생성 */
+    private static final int MAX_CHANGED_GAMES = 1000;
+
+    private final BalanceGameRepository balanceGameRepository;
+    private final long rebuildIntervalMs;
+
+    private volatile Index index = Index.EMPTY;
+    private volatile long lastBuiltAt;
+
+    /** 다음 주기에 다시 읽을 게임 ID */
+    private final Set<Long> dirtyIds = ConcurrentHashMap.newKeySet();
+
+    public GameSuggestService(BalanceGameRepository balanceGameRepository,
+                              @Value("${app.suggest.rebuild-interval-ms:3600000}") long rebuildIntervalMs) {
+        this.balanceGameRepository = balanceGameRepository;
+        this.rebuildIntervalMs = rebuildIntervalMs;
+    }
+
+    /**
+     * 자동완성 조회 (DB 접근 없음)
+     * 자음만 입력하면 초성 색인, 그 외에는 제목 색인에서 찾음
+     * @param query 입력 중인 검색어 (예: "짜장", "ㅉㅈ ㅉㅃ")
+     * @param size 최대 개수
+     * @return 가중치 순 자동완성 목록
+     */
+    public List<GameSuggestionDto> suggest(String query, int size) {
+        int k = Math.max(1, Math.min(size, MAX_SUGGESTIONS));
+        Index current = index;
+        boolean chosung = HangulUtils.isChosungQuery(query);
+        String prefix = chosung ? HangulUtils.chosung(query) : HangulUtils.normalize(query);
+        int[] baseDocs = current.base.top(prefix, chosung, k, current.stale);
+        int[] changedDocs = current.changed.top(prefix, chosung, k, null);
+
+        // 두 목록 모두 가중치 내림차순이므로 병합
+        List<GameSuggestionDto> suggestions = new ArrayList<>(k);
+        int i = 0;
+        int j = 0;
+        while (suggestions.size() < k && (i < baseDocs.length || j < changedDocs.length)) {
+            boolean fromBase = j == changedDocs.length || (i < baseDocs.length
+                    && current.base.weights[baseDocs[i]] >= current.changed.weights[changedDocs[j]]);
+            suggestions.add(fromBase ? current.base.suggestion(baseDocs[i++]) : current.changed.suggestion(changedDocs[j++]));
+        }
+        return suggestions;
+    }
+
+    /**
+     * 게임 생성/수정/삭제 시 다음 주기에 해당 게임만 다시 읽도록 표시
+     * @param gameId 게임 ID
+     */
+    public void markDirty(Long gameId) {
+        dirtyIds.add(gameId);
+    }
+
+    /**
+     * 가중치 갱신 주기가 지났으면 전체 재생성, 아니면 변경된 게임만 반영
+     */
+    @Scheduled(fixedDelayString = "${app.suggest.refresh-interval-ms:5000}",
+               initialDelayString = "${app.suggest.refresh-interval-ms:5000}")
+    public void refresh() {
+        if (System.currentTimeMillis() - lastBuiltAt >= rebuildIntervalMs) {
+            rebuild();
+        } else if (!dirtyIds.isEmpty()) {
+            applyChanges();
+        }
+    }
+
+    /**
+     * 변경된 게임만 다시 읽어 보조 색인을 교체 (조회 1회)
+     * 기본 색인의 이전 항목은 제외 표시하고, 삭제된 게임은 보조 색인에도 넣지 않음
+     */
+    public void applyChanges() {
+        List<Long> ids = new ArrayList<>(dirtyIds);
+        dirtyIds.removeAll(ids);
+        Index current = index;
+        if (current.changedRows.size() + ids.size() > MAX_CHANGED_GAMES) {
+            rebuild();
+            return;
+        }
+
+        List<GameSummaryRow> rows;
+        try {
+            rows = balanceGameRepository.findAllWithStatsByIdIn(ids);
+        } catch (RuntimeException e) {
+            dirtyIds.addAll(ids);
+            throw e;
+        }
+        Map<Long, GameSummaryRow> changedRows = new HashMap<>(current.changedRows);
+        ids.forEach(changedRows::remove);
+        rows.forEach(row -> changedRows.put(row.id(), row));
+
+        BitSet stale = (BitSet) current.stale.clone();
+        for (Long id : ids) {
+            int doc = Arrays.binarySearch(current.base.ids, id);
+            if (doc >= 0) {
+                stale.set(doc);
+            }
+        }
+        index = new Index(current.base, stale, Snapshot.build(new ArrayList<>(changedRows.values())), changedRows);
+        log.debug("자동완성 색인 증분 반영 - 변경 게임 수: {}", ids.size());
+    }
+
+    /**
+     * balance_games + game_stats 전체를 읽어 색인 재생성
+     */
+    public void rebuild() {
+        // 적재 도중 바뀐 게임은 적재 결과에 이미 있거나 다음 주기에 다시 반영됨
+        dirtyIds.clear();
+        List<GameSummaryRow> rows = new ArrayList<>();
+        long lastId = 0;
+        List<GameSummaryRow> chunk;
+        do {
+            chunk = balanceGameRepository.findAllWithStatsAfterId(lastId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            rows.addAll(chunk);
+            if (!chunk.isEmpty()) {
+                lastId = chunk.get(chunk.size() - 1).id();
+            }
+        } while (chunk.size() == LOAD_CHUNK_SIZE);
+
+        index = new Index(Snapshot.build(rows), new BitSet(), Snapshot.EMPTY, Map.of());
+        lastBuiltAt = System.currentTimeMillis();
+        log.debug("자동완성 색인 생성 완료 - 게임 수: {}", rows.size());
+    }
+
+    /**
+     * 애플리케이션 시작 시 자동완성 색인 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            // lastBuiltAt이 갱신되지 않았으므로 다음 주기에 다시 전체 재생성
+            log.warn("자동완성 색인 생성 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 조회에 쓰는 색인 한 벌 (한 번에 교체해 기본 색인과 제외 표시가 어긋나지 않도록 함)
+     * @param base 마지막 전체 재생성 결과 (게임 ID 오름차순)
+     * @param stale 기본 색인에서 제외할 게임 번호 (변경/삭제된 게임)
+     * @param changed 이후 변경된 게임만 담은 보조 색인
+     * @param changedRows 보조 색인의 원본 행 (다음 증분 반영 시 재사용)
+     */
+    private record Index(Snapshot base, BitSet stale, Snapshot changed, Map<Long, GameSummaryRow> changedRows) {
+        static final Index EMPTY = new Index(Snapshot.EMPTY, new BitSet(), Snapshot.EMPTY, Map.of());
+    }
+
+    /**
+     * 불변 색인 스냅샷 (게임 번호 = 배열 인덱스)
+     */
+    private static final class Snapshot {
+        static final Snapshot EMPTY = build(Collections.emptyList());
+
+        final long[] ids;
+        final String[] titles;
+        final long[] weights;
+        final PrefixIndex titleIndex;
+        final PrefixIndex chosungIndex;
+
+        private Snapshot(long[] ids, String[] titles, long[] weights, PrefixIndex titleIndex, PrefixIndex chosungIndex) {
+            this.ids = ids;
+            this.titles = titles;
+            this.weights = weights;
+            this.titleIndex = titleIndex;
+            this.chosungIndex = chosungIndex;
+        }
+
+        static Snapshot build(List<GameSummaryRow> rows) {
+            int n = rows.size();
+            long[] ids = new long[n];
+            String[] titles = new String[n];
+            long[] weights = new long[n];
+            List<Entry> titleEntries = new ArrayList<>();
+            List<Entry> chosungEntries = new ArrayList<>();
+
+            for (int doc = 0; doc < n; doc++) {
+                GameSummaryRow row = rows.get(doc);
+                ids[doc] = row.id();
+                titles[doc] = row.title();
+                weights[doc] = (row.viewCount() != null ? row.viewCount() : 0) + row.optionACount() + row.optionBCount();
+
+                String[] words = row.title() != null ? row.title().trim().split("\\s+") : new String[0];
+                for (int start = 0; start < Math.min(words.length, MAX_WORD_STARTS); start++) {
+                    String suffix = String.join(" ", List.of(words).subList(start, words.length));
+                    addEntry(titleEntries, HangulUtils.normalize(suffix), doc);
+                    addEntry(chosungEntries, HangulUtils.chosung(suffix), doc);
+                }
+            }
+            return new Snapshot(ids, titles, weights,
+                    PrefixIndex.build(titleEntries, weights),
+                    PrefixIndex.build(chosungEntries, weights));
+        }
+
+        /**
+         * 접두어로 시작하는 게임 번호 (가중치 내림차순)
+         * @param excluded 제외할 게임 번호 (없으면 null)
+         */
+        int[] top(String prefix, boolean chosung, int k, BitSet excluded) {
+            return (chosung ? chosungIndex : titleIndex).top(prefix, weights, k, excluded);
+        }
+
+        GameSuggestionDto suggestion(int doc) {
+            return GameSuggestionDto.builder()
+                    .id(ids[doc])
+                    .title(titles[doc])
+                    .build();
+        }
+
+        private static void addEntry(List<Entry> entries, String key, int doc) {
+            if (!key.isEmpty()) {
+                entries.add(new Entry(key, doc));
+            }
+        }
+    }
+
+    private record Entry(String key, int doc) {
+    }
+
+    /**
+     * 정렬된 키 배열 기반 접두어 색인
+     * 접두어에 해당하는 키 범위를 이진 탐색으로 찾고, 짧은 접두어는 상위 목록을 미리 계산해 둠
+     */
+    private static final class PrefixIndex {
+        private final String[] keys;
+        private final int[] docs;
+        private final Map<String, int[]> precomputed;
+
+        private PrefixIndex(String[] keys, int[] docs, Map<String, int[]> precomputed) {
+            this.keys = keys;
+            this.docs = docs;
+            this.precomputed = precomputed;
+        }
+
+        static PrefixIndex build(List<Entry> entries, long[] weights) {
+            entries.sort(Comparator.comparing(Entry::key));
+            String[] keys = new String[entries.size()];
+            int[] docs = new int[entries.size()];
+            Map<String, TopK> shortPrefixes = new HashMap<>();
+            for (int i = 0; i < entries.size(); i++) {
+                Entry entry = entries.get(i);
+                keys[i] = entry.key();
+                docs[i] = entry.doc();
+                for (int length = 1; length <= Math.min(PRECOMPUTED_PREFIX_LENGTH, entry.key().length()); length++) {
+                    shortPrefixes.computeIfAbsent(entry.key().substring(0, length), p -> new TopK(MAX_SUGGESTIONS))
+                            .offer(entry.doc(), weights);
+                }
+            }
+            Map<String, int[]> precomputed = new HashMap<>(shortPrefixes.size());
+            shortPrefixes.forEach((prefix, top) -> precomputed.put(prefix, top.toArray()));
+            return new PrefixIndex(keys, docs, precomputed);
+        }
+
+        int[] top(String prefix, long[] weights, int k, BitSet excluded) {
+            if (prefix.isEmpty()) {
+                return new int[0];
+            }
+            if (prefix.length() <= PRECOMPUTED_PREFIX_LENGTH) {
+                int[] top = precomputed.getOrDefault(prefix, new int[0]);
+                int[] kept = excluded == null ? top : Arrays.stream(top).filter(doc -> !excluded.get(doc)).toArray();
+                // 제외된 게임 때문에 모자라면 미리 계산한 목록 밖에도 후보가 있을 수 있으므로 범위를 직접 탐색
+                if (kept.length >= k || top.length < MAX_SUGGESTIONS) {
+                    return kept.length <= k ? kept : Arrays.copyOf(kept, k);
+                }
+            }
+            TopK top = new TopK(k);
+            int end = lowerBound(prefix + Character.MAX_VALUE);
+            for (int i = lowerBound(prefix); i < end; i++) {
+                if (excluded == null || !excluded.get(docs[i])) {
+                    top.offer(docs[i], weights);
+                }
+            }
+            return top.toArray();
+        }
+
+        private int lowerBound(String key) {
+            int lo = 0;
+            int hi = keys.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (keys[mid].compareTo(key) < 0) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+    }
+
+    /**
+     * 가중치 상위 k개 게임 (중복 제외, 가중치 내림차순 유지)
+     */
+    private static final class TopK {
+        private final int[] docs;
+        private int size;
+
+        TopK(int k) {
+            this.docs = new int[k];
+        }
+
+        void offer(int doc, long[] weights) {
+            for (int i = 0; i < size; i++) {
+                if (docs[i] == doc) {
+                    return;
+                }
+            }
+            if (size == docs.length && weights[docs[size - 1]] >= weights[doc]) {
+                return;
+            }
+            int pos = Math.min(size, docs.length - 1);
+            while (pos > 0 && weights[docs[pos - 1]] < weights[doc]) {
+                docs[pos] = docs[pos - 1];
+                pos--;
+            }
+            docs[pos] = doc;
+            if (size < docs.length) {
+                size++;
+            }
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(docs, size);
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package com.drink.balancegame.service;
+
+import com.drink.balancegame.dto.GameSummaryRow;
+import com.drink.balancegame.repository.BalanceGameRepository;
+import com.drink.balancegame.util.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 기간별 베스트(좋아요순) 리더보드 서비스
+ * 최근 30일간의 좋아요를 시간(hour) 단위 버킷으로 게임별 집계해 두고,
+ * 일간/주간/월간 상위 N개 목록을 주기적으로 미리 만들어 요청 시에는 목록을 잘라서 반환
+ * 좋아요 토글은 버킷에 바로 반영하고, 주기적으로 likes 테이블에서 다시 읽어 오차를 보정
+ * 재동기화 조회 중에 반영된 좋아요는 조회 결과에 이미 들어 있는지 알 수 없어 다시 적용하지 않음
+ * (조회 뒤에 커밋된 좋아요는 다음 재동기화까지 빠질 수 있음 - 최대 재동기화 주기 1회만큼의 지연)
+ * 게임 삭제는 여러 번 적용해도 같으므로 재동기화 중에 들어온 삭제만 새 버킷에 다시 적용
+ */
+@Service
+@Slf4j
+public class LeaderboardService {
+
+    /** 보관하는 최대 기간 (월간 = 30일) */
+    private static final int RETAINED_HOURS = 720;
+
+    /** DATE_TRUNC('hour', ...)는 PostgreSQL과 H2(로컬 프로필) 모두 지원 */
+    private static final String RESYNC_SQL = """
+            SELECT balance_game_id, DATE_TRUNC('hour', created_at) AS bucket, COUNT(*) AS cnt
+            FROM likes
+            WHERE balance_game_id IS NOT NULL AND created_at >= ?
+            GROUP BY balance_game_id, DATE_TRUNC('hour', created_at)
+            """;
+
+    /**
+     * 리더보드 기간
+     */
+    public enum Period {
+        DAILY(24), WEEKLY(168), MONTHLY(720);
+
+        private final int hours;
+
+        Period(int hours) {
+            this.hours = hours;
+        }
+
+        /**
+         * 요청 파라미터를 기간으로 변환
+         * @param period daily, weekly, monthly
+         * @return Period (그 외 값이면 null)
+         */
+        public static Period from(String period) {
+            if (period == null) return null;
+            switch (period) {
+                case "daily": return DAILY;
+                case "weekly": return WEEKLY;
+                case "monthly": return MONTHLY;
+                default: return null;
+            }
+        }
+    }
+
+    /**
+     * 리더보드 항목
+     */
+    public static final class RankedGame {
+        private final Long gameId;
+        private final long likeCount;
+
+        RankedGame(Long gameId, long likeCount) {
+            this.gameId = gameId;
+            this.likeCount = likeCount;
+        }
+
+        public Long getGameId() { return gameId; }
+        public long getLikeCount() { return likeCount; }
+    }
+
+    private final BalanceGameRepository balanceGameRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxEntries;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    /** 시간 버킷 (시간 인덱스 -> 게임 ID -> 좋아요 수) */
+    private volatile ConcurrentMap<Long, ConcurrentMap<Long, AtomicLong>> buckets = new ConcurrentHashMap<>();
+
+    /** 버킷 변경과 교체를 직렬화하는 잠금 (잠금 구간은 맵 갱신뿐이라 짧음) */
+    private final Object bucketLock = new Object();
+
+    /** 재동기화 중에 삭제된 게임 ID (재동기화 중이 아니면 null, bucketLock으로 잠금) */
+    private Set<Long> removedDuringResync;
+
+    /** 미리 만들어 둔 기간별 상위 목록 */
+    private volatile Map<Period, List<RankedGame>> boards = Collections.emptyMap();
+
+    public LeaderboardService(BalanceGameRepository balanceGameRepository,
+                              JdbcTemplate jdbcTemplate,
+                              @Value("${app.leaderboard.size:1000}") int maxEntries) {
+        this.balanceGameRepository = balanceGameRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 기간별 베스트 게임 조회 (좋아요순)
+     * 반환 행에는 기간 내 좋아요 수(periodLikeCount)가 채워짐
+     * 기간 내 좋아요가 1개 이상인 게임만 포함
+     * @param pageable 페이징 정보
+     * @param period 기간 (daily, weekly, monthly, 그 외는 전체 기간)
+     * @return 통계 정보가 포함된 게임 목록
+     */
+    public Page<GameSummaryRow> findBestGames(Pageable pageable, String period) {
+        Period p = Period.from(period);
+        if (p == null) {
+            return balanceGameRepository.findAllWithStatsOrderByLikes(pageable);
+        }
+
+        List<RankedGame> board = boards.getOrDefault(p, Collections.emptyList());
+        int from = (int) Math.min(pageable.getOffset(), board.size());
+        int to = Math.min(from + pageable.getPageSize(), board.size());
+        List<RankedGame> slice = board.subList(from, to);
+        if (slice.isEmpty()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, board.size());
+        }
+
+        List<Long> ids = slice.stream().map(RankedGame::getGameId).toList();
+        Map<Long, GameSummaryRow> rowsById = new HashMap<>();
+        for (GameSummaryRow row : balanceGameRepository.findAllWithStatsByIdIn(ids)) {
+            rowsById.put(row.id(), row);
+        }
+
+        List<GameSummaryRow> rows = new ArrayList<>(slice.size());
+        for (RankedGame ranked : slice) {
+            GameSummaryRow row = rowsById.get(ranked.getGameId());
+            if (row != null) {
+                rows.add(row.withPeriodLikeCount(ranked.getLikeCount()));
+            }
+        }
+        return new PageImpl<>(rows, pageable, board.size());
+    }
+
+    /**
+     * 좋아요 토글 반영 (트랜잭션 안이면 커밋 이후에 반영)
+     * 좋아요 취소는 취소된 좋아요의 생성 시각을 알 수 없으므로 가장 최근 버킷에서 차감하고,
+     * 오차는 주기적인 재동기화로 보정
+     * @param gameId 게임 ID
+     * @param delta +1: 좋아요, -1: 좋아요 취소
+     */
+    public void recordLike(Long gameId, long delta) {
+        TransactionUtils.runAfterCommit(() -> {
+            long currentHour = hourOf(LocalDateTime.now());
+            applyChange(current -> {
+                if (delta > 0) {
+                    current.computeIfAbsent(currentHour, h -> new ConcurrentHashMap<>())
+                            .computeIfAbsent(gameId, id -> new AtomicLong())
+                            .addAndGet(delta);
+                    return;
+                }
+                for (long hour = currentHour; hour > currentHour - RETAINED_HOURS; hour--) {
+                    ConcurrentMap<Long, AtomicLong> bucket = current.get(hour);
+                    AtomicLong count = bucket != null ? bucket.get(gameId) : null;
+                    if (count != null && count.get() > 0) {
+                        count.addAndGet(delta);
+                        return;
+                    }
+                }
+            });
+        });
+    }
+
+    /**
+     * 게임 삭제 시 리더보드에서 제거 (트랜잭션 안이면 커밋 이후에 반영)
+     * @param gameId 게임 ID
+     */
+    public void removeGame(Long gameId) {
+        TransactionUtils.runAfterCommit(() -> {
+            synchronized (bucketLock) {
+                buckets.values().forEach(bucket -> bucket.remove(gameId));
+                if (removedDuringResync != null) {
+                    removedDuringResync.add(gameId);
+                }
+            }
+            Map<Period, List<RankedGame>> updated = new HashMap<>();
+            boards.forEach((period, board) -> updated.put(period, board.stream()
+                    .filter(ranked -> !ranked.getGameId().equals(gameId))
+                    .toList()));
+            boards = updated;
+        });
+    }
+
+    /**
+     * 시간 버킷으로 기간별 상위 목록을 다시 생성
+     */
+    @Scheduled(fixedDelayString = "${app.leaderboard.rebuild-interval-ms:60000}",
+               initialDelayString = "${app.leaderboard.rebuild-interval-ms:60000}")
+    public void rebuild() {
+        long currentHour = hourOf(LocalDateTime.now());
+        ConcurrentMap<Long, ConcurrentMap<Long, AtomicLong>> current = buckets;
+
+        // 보관 기간이 지난 버킷 정리
+        current.keySet().removeIf(hour -> hour <= currentHour - RETAINED_HOURS);
+
+        Map<Period, List<RankedGame>> rebuilt = new HashMap<>();
+        for (Period period : Period.values()) {
+            Map<Long, Long> totals = new HashMap<>();
+            current.forEach((hour, bucket) -> {
+                if (hour > currentHour - period.hours) {
+                    bucket.forEach((gameId, count) -> totals.merge(gameId, count.get(), Long::sum));
+                }
+            });
+            rebuilt.put(period, totals.entrySet().stream()
+                    .filter(entry -> entry.getValue() > 0)
+                    .sorted(Map.Entry.<Long, Long>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.<Long, Long>comparingByKey(Comparator.reverseOrder())))
+                    .limit(maxEntries)
+                    .map(entry -> new RankedGame(entry.getKey(), entry.getValue()))
+                    .toList());
+        }
+        boards = rebuilt;
+    }
+
+    /**
+     * likes 테이블에서 최근 30일 시간 버킷을 다시 읽어 교체 (집계 쿼리 1회)
+     */
+    @Scheduled(fixedDelayString = "${app.leaderboard.resync-interval-ms:600000}",
+               initialDelayString = "${app.leaderboard.resync-interval-ms:600000}")
+    public void resync() {
+        synchronized (bucketLock) {
+            removedDuringResync = new HashSet<>();
+        }
+        ConcurrentMap<Long, ConcurrentMap<Long, AtomicLong>> loaded = new ConcurrentHashMap<>();
+        try {
+            LocalDateTime since = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(RETAINED_HOURS - 1);
+            jdbcTemplate.query(RESYNC_SQL, rs -> {
+                long gameId = rs.getLong(1);
+                Timestamp bucket = rs.getTimestamp(2);
+                long count = rs.getLong(3);
+                loaded.computeIfAbsent(hourOf(bucket.toLocalDateTime()), h -> new ConcurrentHashMap<>())
+                        .put(gameId, new AtomicLong(count));
+            }, Timestamp.valueOf(since));
+        } catch (RuntimeException e) {
+            synchronized (bucketLock) {
+                removedDuringResync = null;
+            }
+            throw e;
+        }
+        synchronized (bucketLock) {
+            // 조회 중에 반영된 좋아요는 다시 적용하지 않음 (조회 전에 커밋됐으면 두 번 세게 됨)
+            removedDuringResync.forEach(gameId -> loaded.values().forEach(bucket -> bucket.remove(gameId)));
+            removedDuringResync = null;
+            buckets = loaded;
+        }
+        rebuild();
+        log.debug("리더보드 재동기화 완료 - 버킷 수: {}", loaded.size());
+    }
+
+    /**
+     * 애플리케이션 시작 시 리더보드 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            resync();
+        } catch (Exception e) {
+            log.warn("리더보드 적재 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 버킷에 변경 적용 (버킷 교체와 겹치지 않도록 잠금)
+     */
+    private void applyChange(Consumer<ConcurrentMap<Long, ConcurrentMap<Long, AtomicLong>>> change) {
+        synchronized (bucketLock) {
+            change.accept(buckets);
+        }
+    }
+
+    private long hourOf(LocalDateTime time) {
+        return time.atZone(zone).toEpochSecond() / 3600;
+    }
+}
@@ -1,17 +1,14 @@
 package com.drink.balancegame.service;
 
-import com.drink.balancegame.entity.BalanceGame;
-import com.drink.balancegame.entity.Comment;
-import com.drink.balancegame.entity.Like;
-import com.drink.balancegame.entity.User;
 import com.drink.balancegame.repository.LikeRepository;
 import com.drink.balancegame.service.ValidationService;
+import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
 
 /**
  * 좋아요 관련 비즈니스 로직 서비스
@@ -25,73 +22,69 @@ public class LikeService {
     
     private final LikeRepository likeRepository;
     private final ValidationService validationService;
+    private final GameStatsService gameStatsService;
     
     /**
      * 게임 좋아요 토글 (좋아요/좋아요 취소)
+     * 삭제를 먼저 시도하고, 삭제된 행이 없으면 중복 없는 추가를 시도 (최대 2문장)
+     * 동시에 같은 요청이 들어와도 유니크 제약 위반 없이 한 번만 추가됨
      * @param userId 사용자 ID
      * @param balanceGameId 밸런스 게임 ID
      * @return "liked" 또는 "unliked"
+     * @throws EntityNotFoundException 사용자 또는 게임이 존재하지 않을 때
      */
     @Transactional
     public String toggleGameLike(Long userId, Long balanceGameId) {
         log.debug("게임 좋아요 토글 - 사용자 ID: {}, 게임 ID: {}", userId, balanceGameId);
         
-        // 사용자 및 게임 존재 확인
-        User user = validationService.validateUserExists(userId);
-        BalanceGame balanceGame = validationService.validateBalanceGameExists(balanceGameId);
-        
-        // 기존 좋아요 확인
-        Optional<Like> existingLike = likeRepository.findByUserIdAndBalanceGameId(userId, balanceGameId);
-        
-        if (existingLike.isPresent()) {
-            // 좋아요 취소
-            likeRepository.delete(existingLike.get());
+        // 좋아요 취소
+        if (likeRepository.deleteByUserIdAndBalanceGameId(userId, balanceGameId) > 0) {
+            gameStatsService.recordGameLike(balanceGameId, -1);
             log.info("게임 좋아요 취소 - 사용자 ID: {}, 게임 ID: {}", userId, balanceGameId);
             return "unliked";
-        } else {
-            // 좋아요 추가
-            Like like = Like.builder()
-                    .user(user)
-                    .balanceGame(balanceGame)
-                    .build();
-            likeRepository.save(like);
+        }
+        
+        // 좋아요 추가
+        if (likeRepository.insertGameLikeIfAbsent(userId, balanceGameId, LocalDateTime.now()) > 0) {
+            gameStatsService.recordGameLike(balanceGameId, 1);
             log.info("게임 좋아요 추가 - 사용자 ID: {}, 게임 ID: {}", userId, balanceGameId);
             return "liked";
         }
+        
+        // 추가되지 않은 경우: 대상이 없거나(탈퇴 처리 중인 사용자 포함), 동시 요청이 먼저 추가함
+        validationService.validateActiveUser(userId);
+        validationService.validateBalanceGameExists(balanceGameId);
+        return "liked";
     }
     
     /**
      * 댓글 좋아요 토글 (좋아요/좋아요 취소)
+     * 삭제를 먼저 시도하고, 삭제된 행이 없으면 중복 없는 추가를 시도 (최대 2문장)
      * @param userId 사용자 ID
      * @param commentId 댓글 ID
      * @return "liked" 또는 "unliked"
+     * @throws EntityNotFoundException 사용자 또는 댓글이 존재하지 않을 때
      */
     @Transactional
     public String toggleCommentLike(Long userId, Long commentId) {
         log.debug("댓글 좋아요 토글 - 사용자 ID: {}, 댓글 ID: {}", userId, commentId);
         
-        // 사용자 및 댓글 존재 확인
-        User user = validationService.validateUserExists(userId);
-        Comment comment = validationService.validateCommentExists(commentId);
-        
-        // 기존 좋아요 확인
-        Optional<Like> existingLike = likeRepository.findByUserIdAndCommentId(userId, commentId);
-        
-        if (existingLike.isPresent()) {
-            // 좋아요 취소
-            likeRepository.delete(existingLike.get());
+        // 좋아요 취소
+        if (likeRepository.deleteByUserIdAndCommentId(userId, commentId) > 0) {
             log.info("댓글 좋아요 취소 - 사용자 ID: {}, 댓글 ID: {}", userId, commentId);
             return "unliked";
-        } else {
-            // 좋아요 추가
-            Like like = Like.builder()
-                    .user(user)
-                    .comment(comment)
-                    .build();
-            likeRepository.save(like);
+        }
+        
+        // 좋아요 추가
+        if (likeRepository.insertCommentLikeIfAbsent(userId, commentId, LocalDateTime.now()) > 0) {
             log.info("댓글 좋아요 추가 - 사용자 ID: {}, 댓글 ID: {}", userId, commentId);
             return "liked";
         }
+        
+        // 추가되지 않은 경우: 대상이 없거나(탈퇴 처리 중인 사용자 포함), 동시 요청이 먼저 추가함
+        validationService.validateActiveUser(userId);
+        validationService.validateCommentExists(commentId);
+        return "liked";
     }
     
     /**
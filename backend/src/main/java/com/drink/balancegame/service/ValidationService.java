@@ -43,6 +43,25 @@ public class ValidationService {
                 });
     }
     
+    /**
+     * 쓰기 요청의 사용자 확인 (탈퇴 처리 중인 사용자는 없는 사용자로 취급)
+     * 탈퇴 처리 중에 새 투표/좋아요/댓글/게임이 생기면 마지막 사용자 삭제가 외래 키 위반으로 실패하므로 막음
+     * @param userId 사용자 ID
+     * @return User 엔티티
+     * @throws EntityNotFoundException 사용자가 없거나 탈퇴 처리 중일 때
+     */
+    public User validateActiveUser(Long userId) {
+        if (userId == null) {
+            throw new IllegalArgumentException("사용자 ID는 필수입니다.");
+        }
+        
+        return userRepository.findByIdAndDeletedAtIsNull(userId)
+                .orElseThrow(() -> {
+                    log.warn("존재하지 않거나 탈퇴 처리 중인 사용자 - 사용자 ID: {}", userId);
+                    return new EntityNotFoundException("사용자를 찾을 수 없습니다. ID: " + userId);
+                });
+    }
+    
     /**
      * 밸런스 게임 존재 확인
      * @param gameId 게임 ID
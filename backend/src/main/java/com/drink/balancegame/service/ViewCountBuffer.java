@@ -0,0 +1,141 @@
+package com.drink.balancegame.service;
+
+import com.drink.balancegame.entity.BalanceGame;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회수 쓰기 지연(write-behind) 버퍼
+ * 게임 조회 시 DB UPDATE 대신 메모리 카운터만 증가시키고,
+ * 주기적으로(및 종료 시) 누적분을 배치 UPDATE로 반영
+ * JDBC로 직접 갱신하므로 반영된 게임은 2차 캐시에서 직접 제거
+ */
+@Component
+@Slf4j
+public class ViewCountBuffer {
+
+    private static final String FLUSH_SQL = "UPDATE balance_games SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    /** 게임 ID별 아직 DB에 반영되지 않은 조회수 */
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public ViewCountBuffer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                           EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * 조회수 1 증가 (DB 접근 없음)
+     * @param gameId 게임 ID
+     */
+    public void increment(Long gameId) {
+        // 반영 후 빈 카운터를 제거하는 flush와 같은 키 잠금 안에서 증가시켜, 제거된 카운터에 더해져 사라지는 일이 없도록 함
+        pending.compute(gameId, (id, adder) -> {
+            if (adder == null) {
+                adder = new LongAdder();
+            }
+            adder.increment();
+            return adder;
+        });
+    }
+
+    /**
+     * 삭제된 게임의 대기 중인 조회수 버림
+     * @param gameId 게임 ID
+     */
+    public void discard(Long gameId) {
+        pending.remove(gameId);
+    }
+
+    /**
+     * 아직 반영되지 않은 조회수
+     * @param gameId 게임 ID
+     * @return 대기 중인 증가분
+     */
+    public long pendingDelta(Long gameId) {
+        LongAdder adder = pending.get(gameId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /**
+     * DB에 저장된 조회수와 대기 중인 증가분을 합산
+     * @param gameId 게임 ID
+     * @param persistedViewCount DB에 저장된 조회수
+     * @return 현재 조회수
+     */
+    public Integer merge(Long gameId, Integer persistedViewCount) {
+        long persisted = persistedViewCount != null ? persistedViewCount : 0;
+        return (int) Math.min(Integer.MAX_VALUE, persisted + pendingDelta(gameId));
+    }
+
+    /**
+     * 누적된 조회수를 배치 UPDATE로 반영
+     * 반영에 성공한 만큼만 차감하므로 실패 시 다음 주기에 다시 시도됨
+     */
+    @Scheduled(fixedDelayString = "${app.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sum();
+            if (delta > 0) {
+                batch.add(new Object[]{delta, entry.getKey()});
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        // 잠금 순서를 일정하게 유지하기 위해 ID 순으로 정렬
+        batch.sort((a, b) -> Long.compare((Long) a[1], (Long) b[1]));
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batch));
+        } catch (Exception e) {
+            log.warn("조회수 반영 실패 - 게임 수: {}, 오류: {}", batch.size(), e.getMessage());
+            return;
+        }
+
+        // 캐시에 남은 이전 조회수와 차감된 대기분이 합산되지 않도록 차감 전에 제거
+        Cache secondLevelCache = entityManagerFactory.getCache();
+        for (Object[] row : batch) {
+            secondLevelCache.evict(BalanceGame.class, row[1]);
+        }
+
+        for (Object[] row : batch) {
+            Long gameId = (Long) row[1];
+            LongAdder adder = pending.get(gameId);
+            if (adder != null) {
+                adder.add(-(Long) row[0]);
+            }
+            // 더 이상 대기분이 없는 항목은 제거해 맵 크기를 조회된 게임 수로 제한
+            pending.computeIfPresent(gameId, (id, a) -> a.sum() == 0 ? null : a);
+        }
+        log.debug("조회수 반영 완료 - 게임 수: {}", batch.size());
+    }
+
+    /**
+     * 종료 시 남은 조회수 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,266 @@
+package com.drink.balancegame.service;
+
+import com.drink.balancegame.dto.VoteDto;
+import com.drink.balancegame.dto.VoteResponseDto;
+import com.drink.balancegame.entity.BalanceGame;
+import com.drink.balancegame.entity.User;
+import com.drink.balancegame.entity.Vote;
+import com.drink.balancegame.repository.BalanceGameRepository;
+import com.drink.balancegame.repository.UserRepository;
+import com.drink.balancegame.repository.VoteRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 투표 일괄 반영(group commit) 서비스
+ * 요청은 (사용자, 게임, 옵션) 의도만 큐에 넣고 CompletableFuture로 결과를 기다리며,
+ * 단일 작성 스레드가 몇 ms 동안 모인 투표를 한 트랜잭션에서 반영
+ * 사용자/게임/기존 투표는 묶음 단위로 한 번씩 조회하고, 같은 (사용자, 게임)에 대한 여러 요청은 순서대로 적용한 뒤
+ * 최종 상태만 INSERT/UPDATE/DELETE 하므로 커넥션 1개로도 처리량이 요청 수가 아닌 묶음 수에 비례
+ */
+@Service
+@Slf4j
+public class VoteIngestionService {
+
+    private final VoteRepository voteRepository;
+    private final UserRepository userRepository;
+    private final BalanceGameRepository balanceGameRepository;
+    private final GameStatsService gameStatsService;
+    private final DtoConversionService dtoConversionService;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<VoteIntent> queue;
+    private final int maxBatchSize;
+    private final long maxWaitMs;
+
+    private final Thread writer = new Thread(this::runWriter, "vote-writer");
+    private volatile boolean running = true;
+
+    public VoteIngestionService(VoteRepository voteRepository,
+                                UserRepository userRepository,
+                                BalanceGameRepository balanceGameRepository,
+                                GameStatsService gameStatsService,
+                                DtoConversionService dtoConversionService,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.vote-ingest.queue-capacity:10000}") int queueCapacity,
+                                @Value("${app.vote-ingest.max-batch-size:200}") int maxBatchSize,
+                                @Value("${app.vote-ingest.max-wait-ms:5}") long maxWaitMs) {
+        this.voteRepository = voteRepository;
+        this.userRepository = userRepository;
+        this.balanceGameRepository = balanceGameRepository;
+        this.gameStatsService = gameStatsService;
+        this.dtoConversionService = dtoConversionService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitMs = maxWaitMs;
+    }
+
+    /**
+     * 투표 요청 (같은 옵션을 다시 선택하면 취소, 다른 옵션이면 변경)
+     * @param userId 사용자 ID
+     * @param gameId 게임 ID
+     * @param option 선택 옵션
+     * @return 반영 결과 (사용자/게임이 없으면 IllegalArgumentException, 큐가 가득 차면 IllegalStateException으로 완료)
+     */
+    public CompletableFuture<VoteResponseDto> submit(Long userId, Long gameId, Vote.VoteOption option) {
+        VoteIntent intent = new VoteIntent(userId, gameId, option, new CompletableFuture<>());
+        if (!running || !queue.offer(intent)) {
+            intent.result().completeExceptionally(new IllegalStateException("투표 요청이 너무 많습니다."));
+        }
+        return intent.result();
+    }
+
+    @PostConstruct
+    public void start() {
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * 종료 시 남은 요청까지 반영한 뒤 작성 스레드 종료
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    private void runWriter() {
+        List<VoteIntent> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                VoteIntent first = running ? queue.poll(1, TimeUnit.SECONDS) : queue.poll();
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // 첫 요청 이후 잠시 기다리며 함께 반영할 요청을 모음
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    VoteIntent next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // 종료 요청: 모은 요청과 큐에 남은 요청을 마저 반영
+                queue.drainTo(batch, maxBatchSize - batch.size());
+            }
+            if (!batch.isEmpty()) {
+                processBatch(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 묶음을 한 트랜잭션으로 반영하고, 실패하면 요청별 트랜잭션으로 다시 시도해 실패를 해당 요청에만 전달
+     */
+    private void processBatch(List<VoteIntent> batch) {
+        try {
+            List<Runnable> completions = transactionTemplate.execute(status -> apply(batch));
+            completions.forEach(Runnable::run);
+            log.debug("투표 일괄 반영 완료 - 요청 수: {}", batch.size());
+        } catch (Exception batchError) {
+            log.warn("투표 일괄 반영 실패, 요청별로 재시도 - 요청 수: {}, 오류: {}", batch.size(), batchError.getMessage());
+            for (VoteIntent intent : batch) {
+                try {
+                    List<Runnable> completions = transactionTemplate.execute(status -> apply(List.of(intent)));
+                    completions.forEach(Runnable::run);
+                } catch (Exception e) {
+                    intent.result().completeExceptionally(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 묶음 반영 (트랜잭션 안에서 실행)
+     * @return 커밋 이후 실행할 요청별 완료 처리
+     */
+    private List<Runnable> apply(List<VoteIntent> batch) {
+        Set<Long> userIds = batch.stream().map(VoteIntent::userId).collect(Collectors.toSet());
+        Set<Long> gameIds = batch.stream().map(VoteIntent::gameId).collect(Collectors.toSet());
+        // 탈퇴 처리 중인 사용자는 없는 사용자로 취급 (삭제 작업이 지운 뒤에 투표가 다시 생기지 않도록)
+        Map<Long, User> users = userRepository.findAllByIdInAndDeletedAtIsNull(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<Long, BalanceGame> games = balanceGameRepository.findAllById(gameIds).stream()
+                .collect(Collectors.toMap(BalanceGame::getId, Function.identity()));
+
+        // (사용자, 게임)별 기존 투표와 요청 적용 중의 현재 투표
+        Map<VoteKey, Vote> initial = new HashMap<>();
+        for (Vote vote : voteRepository.findByUserIdInAndBalanceGameIdIn(userIds, gameIds)) {
+            initial.put(new VoteKey(vote.getUser().getId(), vote.getBalanceGame().getId()), vote);
+        }
+        Map<VoteKey, Vote> current = new HashMap<>(initial);
+
+        List<Outcome> outcomes = new ArrayList<>(batch.size());
+        Map<Long, long[]> deltas = new LinkedHashMap<>();
+        for (VoteIntent intent : batch) {
+            User user = users.get(intent.userId());
+            BalanceGame game = games.get(intent.gameId());
+            if (user == null || game == null) {
+                outcomes.add(Outcome.failed(intent, new IllegalArgumentException(
+                        user == null ? "존재하지 않는 사용자입니다." : "존재하지 않는 게임입니다.")));
+                continue;
+            }
+
+            VoteKey key = new VoteKey(intent.userId(), intent.gameId());
+            Vote vote = current.get(key);
+            long[] delta = deltas.computeIfAbsent(intent.gameId(), id -> new long[2]);
+            if (vote == null) {
+                // 새 투표 (같은 묶음에서 취소된 기존 투표가 있으면 그 행을 다시 사용)
+                Vote created = initial.containsKey(key) ? initial.get(key)
+                        : Vote.builder().user(user).balanceGame(game).build();
+                created.setSelectedOption(intent.option());
+                current.put(key, created);
+                addDelta(delta, intent.option(), 1);
+                outcomes.add(new Outcome(intent, created, intent.option(), VoteResponseDto::created, null));
+            } else if (vote.getSelectedOption() == intent.option()) {
+                // 같은 옵션 재선택: 취소
+                current.remove(key);
+                addDelta(delta, intent.option(), -1);
+                outcomes.add(new Outcome(intent, null, null, null, null));
+            } else {
+                // 다른 옵션 선택: 변경
+                addDelta(delta, vote.getSelectedOption(), -1);
+                addDelta(delta, intent.option(), 1);
+                vote.setSelectedOption(intent.option());
+                outcomes.add(new Outcome(intent, vote, intent.option(), VoteResponseDto::updated, null));
+            }
+        }
+
+        // 요청을 모두 적용한 최종 상태만 반영 (변경은 더티 체킹, 추가/삭제는 JDBC 배치)
+        List<Vote> toDelete = new ArrayList<>();
+        initial.forEach((key, vote) -> {
+            if (!current.containsKey(key)) {
+                toDelete.add(vote);
+            }
+        });
+        List<Vote> toInsert = current.values().stream().filter(vote -> vote.getId() == null).toList();
+        voteRepository.deleteAll(toDelete);
+        voteRepository.saveAll(toInsert);
+        voteRepository.flush();
+        deltas.forEach((gameId, delta) -> gameStatsService.recordVotes(gameId, delta[0], delta[1]));
+
+        // 응답은 flush 이후(ID 확정 후) 트랜잭션 안에서 만들고, 완료 통보는 커밋 이후에 실행
+        List<Runnable> completions = new ArrayList<>(outcomes.size());
+        for (Outcome outcome : outcomes) {
+            CompletableFuture<VoteResponseDto> result = outcome.intent().result();
+            if (outcome.error() != null) {
+                completions.add(() -> result.completeExceptionally(outcome.error()));
+            } else if (outcome.vote() == null) {
+                completions.add(() -> result.complete(VoteResponseDto.cancelled()));
+            } else {
+                VoteDto dto = dtoConversionService.convertToVoteDto(outcome.vote());
+                // 같은 묶음에서 이후 요청이 옵션을 바꿨을 수 있으므로 요청 시점의 옵션으로 응답
+                dto.setSelectedOption(outcome.option().name());
+                VoteResponseDto response = outcome.response().apply(dto);
+                completions.add(() -> result.complete(response));
+            }
+        }
+        return completions;
+    }
+
+    private static void addDelta(long[] delta, Vote.VoteOption option, long amount) {
+        delta[option == Vote.VoteOption.A ? 0 : 1] += amount;
+    }
+
+    private record VoteKey(Long userId, Long gameId) {
+    }
+
+    /**
+     * 요청 하나의 적용 결과 (vote가 null이면 취소)
+     */
+    private record Outcome(VoteIntent intent, Vote vote, Vote.VoteOption option,
+                           Function<VoteDto, VoteResponseDto> response, Exception error) {
+        static Outcome failed(VoteIntent intent, Exception error) {
+            return new Outcome(intent, null, null, null, error);
+        }
+    }
+
+    private record VoteIntent(Long userId, Long gameId, Vote.VoteOption option,
+                              CompletableFuture<VoteResponseDto> result) {
+    }
+}
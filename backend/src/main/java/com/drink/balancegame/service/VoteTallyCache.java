@@ -0,0 +1,168 @@
+package com.drink.balancegame.service;
+
+import com.drink.balancegame.repository.VoteRepository;
+import com.drink.balancegame.util.TransactionUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게임별 투표 집계 캐시
+ * 옵션 A/B 투표 수를 AtomicLong 두 개로 보관해 통계 조회 시 DB 접근을 없앰
+ * 처음 조회될 때 DB에서 적재하고, 이후에는 투표 생성/변경/취소 시 증분 갱신
+ * 커밋 전인 투표가 있는 게임은 적재 결과에 그 투표가 들어 있는지 알 수 없으므로 캐시하지 않음
+ * (커밋 후 증분이 이미 반영된 적재 값에 한 번 더 더해지는 것을 방지)
+ * 최근에 사용되지 않은 게임부터 제거되는 LRU 방식으로 크기를 제한
+ */
+@Component
+public class VoteTallyCache {
+
+    private final VoteRepository voteRepository;
+
+    /** 접근 순서 기준 LinkedHashMap (LRU), tallies 자체를 잠금 객체로 사용 */
+    private final Map<Long, Tally> tallies;
+
+    /** DB에서 적재 중인 게임별 진행 상태 (적재 도중 놓친 변화가 있는지 확인용, tallies로 잠금) */
+    private final Map<Long, Loading> loading = new HashMap<>();
+
+    /** 트랜잭션이 끝나지 않은 투표 변화 수 (게임 ID -> 건수, tallies로 잠금) */
+    private final Map<Long, Integer> pendingWrites = new HashMap<>();
+
+    public VoteTallyCache(VoteRepository voteRepository,
+                          @Value("${app.vote-tally.max-entries:10000}") int maxEntries) {
+        this.voteRepository = voteRepository;
+        this.tallies = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Tally> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 게임의 투표 집계 조회 (캐시에 없으면 DB에서 한 번 적재)
+     * @param gameId 게임 ID
+     * @return 투표 집계
+     */
+    public Tally get(Long gameId) {
+        Loading load;
+        long writesBefore;
+        synchronized (tallies) {
+            Tally tally = tallies.get(gameId);
+            if (tally != null) {
+                return tally;
+            }
+            load = loading.computeIfAbsent(gameId, id -> new Loading());
+            load.loaders++;
+            writesBefore = load.writes;
+        }
+
+        Tally loaded = null;
+        try {
+            DtoConversionService.VoteStats stats = voteRepository.getVoteStatsByGameIds(List.of(gameId))
+                    .getOrDefault(gameId, new DtoConversionService.VoteStats(0L, 0L, 0L));
+            loaded = new Tally(stats.getOptionACount(), stats.getOptionBCount());
+        } finally {
+            synchronized (tallies) {
+                if (--load.loaders == 0) {
+                    loading.remove(gameId);
+                }
+                if (loaded != null) {
+                    Tally existing = tallies.get(gameId);
+                    if (existing != null) {
+                        loaded = existing;
+                    } else if (load.writes == writesBefore && !pendingWrites.containsKey(gameId)) {
+                        // 적재 도중 이 게임에 커밋된 투표는 캐시에 없어 건너뛰었을 수 있고,
+                        // 아직 끝나지 않은 투표는 적재 결과에 들어 있는지 알 수 없으므로 그때는 캐시하지 않음
+                        tallies.put(gameId, loaded);
+                    }
+                }
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 투표 변화 반영 (트랜잭션 안이면 커밋 이후에 반영)
+     * 캐시에 없는 게임은 다음 조회 때 DB에서 최신 값으로 적재되므로 무시
+     * 호출 시점부터 트랜잭션이 끝날 때까지 게임을 적재 금지로 표시
+     * @param gameId 게임 ID
+     * @param deltaA 옵션 A 증감값
+     * @param deltaB 옵션 B 증감값
+     */
+    public void apply(Long gameId, long deltaA, long deltaB) {
+        synchronized (tallies) {
+            pendingWrites.merge(gameId, 1, Integer::sum);
+        }
+        TransactionUtils.runAfterCommit(() -> {
+            synchronized (tallies) {
+                markWrite(gameId);
+                Tally tally = tallies.get(gameId);
+                if (tally != null) {
+                    tally.optionA.addAndGet(deltaA);
+                    tally.optionB.addAndGet(deltaB);
+                }
+            }
+        });
+        TransactionUtils.runAfterCompletion(() -> {
+            synchronized (tallies) {
+                pendingWrites.computeIfPresent(gameId, (id, count) -> count > 1 ? count - 1 : null);
+            }
+        });
+    }
+
+    /**
+     * 게임 집계 제거 (게임 삭제 등)
+     * @param gameId 게임 ID
+     */
+    public void evict(Long gameId) {
+        TransactionUtils.runAfterCommit(() -> {
+            synchronized (tallies) {
+                markWrite(gameId);
+                tallies.remove(gameId);
+            }
+        });
+    }
+
+    /**
+     * 적재 중인 게임이면 변화 횟수 증가 (tallies 잠금 안에서 호출)
+     */
+    private void markWrite(Long gameId) {
+        Loading load = loading.get(gameId);
+        if (load != null) {
+            load.writes++;
+        }
+    }
+
+    /**
+     * 게임 하나의 적재 진행 상태
+     */
+    private static final class Loading {
+        /** 같은 게임을 동시에 적재 중인 스레드 수 */
+        private int loaders;
+        /** 적재 시작 이후 반영된 투표 변화 횟수 */
+        private long writes;
+    }
+
+    /**
+     * 게임 하나의 투표 집계
+     */
+    public static class Tally {
+        private final AtomicLong optionA;
+        private final AtomicLong optionB;
+
+        public Tally(long optionA, long optionB) {
+            this.optionA = new AtomicLong(optionA);
+            this.optionB = new AtomicLong(optionB);
+        }
+
+        public long getOptionA() { return optionA.get(); }
+        public long getOptionB() { return optionB.get(); }
+        public long getTotal() { return optionA.get() + optionB.get(); }
+    }
+}
@@ -0,0 +1,94 @@
+package com.drink.balancegame.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 한글 검색용 문자열 유틸리티
+ * 검색 색인과 검색어가 같은 규칙으로 정규화되도록 한 곳에서 처리
+ */
+public final class HangulUtils {
+
+    private static final char SYLLABLE_BASE = '가';
+    private static final char SYLLABLE_LAST = '힣';
+
+    /** 초성 하나당 음절 수 (중성 21 x 종성 28) */
+    private static final int SYLLABLES_PER_CHOSUNG = 588;
+
+    /** 초성 순서 (한글 호환 자모) */
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulUtils() {
+    }
+
+    /**
+     * 검색용 정규화
+     * NFC 정규화(자모 분리 입력 결합) 후 소문자로 바꾸고, 글자/숫자 외 문자(공백, 문장부호)는 제거
+     * 띄어쓰기 여부와 상관없이 같은 문자열이 되므로 "짜장vs짬뽕"과 "짜장 vs 짬뽕"이 같게 취급됨
+     * @param text 원본 문자열
+     * @return 정규화된 문자열 (null이면 빈 문자열)
+     */
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(composed.length());
+        for (int i = 0; i < composed.length(); i++) {
+            char c = composed.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 초성 문자열 추출
+     * 한글 음절은 초성으로 바꾸고, 이미 자음만 입력된 글자는 그대로 두며, 그 외 문자는 제외
+     * 예) "짜장 vs 짬뽕" -> "ㅉㅈㅉㅃ"
+     * @param text 원본 문자열
+     * @return 초성 문자열
+     */
+    public static String chosung(String text) {
+        String normalized = normalize(text);
+        StringBuilder sb = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                sb.append(CHOSUNG[(c - SYLLABLE_BASE) / SYLLABLES_PER_CHOSUNG]);
+            } else if (isConsonant(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 초성 검색어 여부 (공백/문장부호를 제외한 모든 글자가 자음)
+     * @param text 검색어
+     * @return 자음으로만 이루어져 있으면 true
+     */
+    public static boolean isChosungQuery(String text) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < normalized.length(); i++) {
+            if (!isConsonant(normalized.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 한글 호환 자모 중 자음 여부 (ㄱ ~ ㅎ)
+     */
+    private static boolean isConsonant(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+}
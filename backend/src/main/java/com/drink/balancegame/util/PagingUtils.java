@@ -0,0 +1,32 @@
+package com.drink.balancegame.util;
+
+/**
+ * 목록 조회용 페이지 매개변수 유틸리티
+ * 잘못된 요청 값으로 PageRequest 생성이 실패하거나 한 번에 지나치게 많은 행을 읽지 않도록 범위를 보정
+ */
+public final class PagingUtils {
+
+    /** 한 번에 조회할 수 있는 최대 개수 */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private PagingUtils() {
+    }
+
+    /**
+     * 페이지 크기를 1 ~ MAX_PAGE_SIZE 범위로 보정
+     * @param size 요청한 페이지 크기
+     * @return 보정된 페이지 크기
+     */
+    public static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * 음수 페이지 번호를 첫 페이지로 보정
+     * @param page 요청한 페이지 번호
+     * @return 보정된 페이지 번호
+     */
+    public static int clampPage(int page) {
+        return Math.max(0, page);
+    }
+}
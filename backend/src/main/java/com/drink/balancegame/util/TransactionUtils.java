@@ -0,0 +1,51 @@
+package com.drink.balancegame.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 유틸리티
+ */
+public final class TransactionUtils {
+
+    private TransactionUtils() {
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 실행
+     * 롤백되면 실행하지 않고, 트랜잭션 밖에서 호출하면 바로 실행
+     * (롤백된 변경이 메모리 캐시/색인에 반영되지 않도록 커밋 이후에만 반영할 때 사용)
+     * @param action 커밋 후 실행할 작업
+     */
+    public static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 끝난 뒤에 실행 (커밋/롤백 모두)
+     * 같은 트랜잭션에서 runAfterCommit으로 등록한 작업보다 나중에 실행되고, 트랜잭션 밖에서 호출하면 바로 실행
+     * (커밋 전에 걸어 둔 표시를 트랜잭션 결과와 무관하게 해제할 때 사용)
+     * @param action 트랜잭션 종료 후 실행할 작업
+     */
+    public static void runAfterCompletion(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.drink.balancegame.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 액추에이터 접근 권한 테스트
+ * 헬스체크만 공개하고 진단용 엔드포인트는 관리자만 조회 가능
+ */
+@SpringBootTest(properties = "management.endpoints.web.exposure.include=health,l2cache,nplusone")
+@AutoConfigureMockMvc
+class ActuatorSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void 헬스체크는_인증_없이_조회할_수_있다() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void 진단용_엔드포인트는_인증이_필요하다() throws Exception {
+        mockMvc.perform(get("/actuator/l2cache"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void 일반_사용자는_진단용_엔드포인트를_조회할_수_없다() throws Exception {
+        mockMvc.perform(get("/actuator/l2cache"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void 관리자는_진단용_엔드포인트를_조회할_수_있다() throws Exception {
+        mockMvc.perform(get("/actuator/l2cache"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void 일반_사용자는_N플러스1_표본을_조회하거나_지울_수_없다() throws Exception {
+        mockMvc.perform(get("/actuator/nplusone"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/actuator/nplusone"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void 관리자는_N플러스1_표본을_조회하고_지울_수_있다() throws Exception {
+        mockMvc.perform(get("/actuator/nplusone"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/actuator/nplusone"))
+                .andExpect(status().isNoContent());
+    }
+}
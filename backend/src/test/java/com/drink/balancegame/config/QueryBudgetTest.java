@@ -0,0 +1,515 @@
+package com.drink.balancegame.config;
+
+import com.drink.balancegame.dto.BalanceGameCreateDto;
+import com.drink.balancegame.dto.VoteResponseDto;
+import com.drink.balancegame.entity.User;
+import com.drink.balancegame.entity.UserRole;
+import com.drink.balancegame.entity.Vote;
+import com.drink.balancegame.repository.BalanceGameRepository;
+import com.drink.balancegame.repository.UserRepository;
+import com.drink.balancegame.repository.VoteRepository;
+import com.drink.balancegame.security.JwtTokenProvider;
+import com.drink.balancegame.security.UserPrincipal;
+import com.drink.balancegame.service.BalanceGameService;
+import com.drink.balancegame.service.DtoConversionService;
+import com.drink.balancegame.service.GameStatsService;
+import com.drink.balancegame.service.LikeService;
+import com.drink.balancegame.service.VoteIngestionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * 엔드포인트별 SQL 문장 예산(@QueryBudget) 테스트
+ * 모든 /api 엔드포인트가 예산을 선언했는지, 그리고 목록마다 여러 행이 있는 데이터로 호출했을 때
+ * 요청 스레드에서 실행한 SQL 문장 수가 예산 안인지 확인 (N+1 회귀는 여기서 빌드 실패로 드러남)
+ * - DataSource를 감싸 JDBC 문장을 세므로 JdbcTemplate 직접 실행도 포함
+ * - 요청마다 2차 캐시를 비워 캐시 적중이 없는 경우의 문장 수를 셈
+ * - 투표 반영 큐 등 다른 스레드에서 실행한 문장은 세지 않음 (투표 반영 묶음은 작성 스레드에서 따로 셈)
+ */
+@SpringBootTest(properties = {"app.query-budget.mode=off", "app.n-plus-one.enabled=false"})
+@AutoConfigureMockMvc
+@Import(QueryBudgetTest.StatementCountingConfig.class)
+class QueryBudgetTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+    private static final String WRITER_THREAD = "vote-writer";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping handlerMapping;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VoteRepository voteRepository;
+
+    @Autowired
+    private BalanceGameService balanceGameService;
+
+    @Autowired
+    private VoteIngestionService voteIngestionService;
+
+    @Autowired
+    private BalanceGameRepository balanceGameRepository;
+
+    @Autowired
+    private GameStatsService gameStatsService;
+
+    @Autowired
+    private DtoConversionService dtoConversionService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    private final List<String> results = new ArrayList<>();
+    private final List<String> exceeded = new ArrayList<>();
+    private final Set<Method> exercised = new HashSet<>();
+
+    @Test
+    void 모든_API_엔드포인트는_SQL_문장_예산을_선언한다() {
+        Set<String> missing = new TreeSet<>();
+        apiHandlers().forEach((endpoint, handlerMethod) -> {
+            if (budgetOf(handlerMethod) == null) {
+                missing.add(endpoint);
+            }
+        });
+
+        assertThat(missing).as("@QueryBudget이 없는 엔드포인트").isEmpty();
+    }
+
+    @Test
+    void 엔드포인트마다_SQL_문장_수가_예산_안이다() throws Exception {
+        User owner = createUser(UserRole.USER);
+        User admin = createUser(UserRole.ADMIN);
+        List<User> voters = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            voters.add(createUser(UserRole.USER));
+        }
+        Long gameId = createGame(owner);
+        for (User voter : voters) {
+            voteIngestionService.submit(voter.getId(), gameId, Vote.VoteOption.A).get(5, TimeUnit.SECONDS);
+        }
+        List<Long> parentIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            User author = voters.get(i);
+            likeService.toggleGameLike(author.getId(), gameId);
+            Long parentId = createComment(author, gameId, null);
+            parentIds.add(parentId);
+            for (int j = 3; j < 5; j++) {
+                createComment(voters.get(j), gameId, parentId);
+                likeService.toggleCommentLike(voters.get(j).getId(), parentId);
+            }
+        }
+        Long parentId = parentIds.get(0);
+        Long voteId = voteRepository.findByUserIdAndBalanceGameId(voters.get(0).getId(), gameId).orElseThrow().getId();
+        String token = "Bearer " + jwtTokenProvider.createToken(owner.getId(), owner.getEmail());
+        UserPrincipal ownerPrincipal = UserPrincipal.create(owner);
+        UserPrincipal adminPrincipal = UserPrincipal.create(admin);
+        User voter = voters.get(0);
+
+        // 조회 (게임 API 3종)
+        for (String base : List.of("/api/balance-games", "/api/web/balance-games", "/api/mobile/balance-games")) {
+            check(get(base));
+            check(get(base).param("sort", "popular"));
+            check(get(base).param("sort", "votes"));
+            check(get(base).param("sort", "best").param("period", "week"));
+            check(get(base).param("cursor", ""));
+            check(get(base + "/{id}", gameId));
+            check(get(base + "/{id}/info", gameId));
+            check(get(base + "/{id}/live", gameId).accept(MediaType.TEXT_EVENT_STREAM));
+            check(get(base + "/search").param("title", "짜장"));
+            check(get(base + "/suggest").param("q", "짜"));
+        }
+
+        // 조회 (댓글/투표/사용자)
+        check(get("/api/comments/game/{id}", gameId).param("userId", voter.getId().toString()).with(user(ownerPrincipal)));
+        check(get("/api/comments/game/{id}/list", gameId).param("userId", voter.getId().toString()));
+        check(get("/api/comments/{id}/replies", parentId).param("userId", voter.getId().toString()));
+        check(get("/api/comments/user/{id}", voter.getId()).with(user(ownerPrincipal)));
+        check(get("/api/comments/{id}", parentId).with(user(ownerPrincipal)));
+        check(get("/api/comments/count/game/{id}", gameId));
+        check(get("/api/votes/game/{id}", gameId).with(user(ownerPrincipal)));
+        check(get("/api/votes/user/{id}", voter.getId()).with(user(ownerPrincipal)));
+        check(get("/api/votes/user/{userId}/game/{gameId}", voter.getId(), gameId).with(user(ownerPrincipal)));
+        check(get("/api/votes/stats/{id}", gameId).with(user(ownerPrincipal)));
+        for (String base : List.of("/api/users", "/api/web/users", "/api/mobile/users")) {
+            check(get(base).with(user(adminPrincipal)));
+            check(get(base + "/{id}", voter.getId()).with(user(ownerPrincipal)));
+            check(get(base + "/{id}/stats", voter.getId()).with(user(ownerPrincipal)));
+        }
+
+        // 인증
+        String login = objectMapper.writeValueAsString(Map.of("username", owner.getUsername(), "password", "x"));
+        for (String base : List.of("/api/auth", "/api/web/auth", "/api/mobile/auth")) {
+            check(post(base + "/test-login").contentType(MediaType.APPLICATION_JSON).content(login));
+            check(get(base + "/me").header(HttpHeaders.AUTHORIZATION, token));
+        }
+        for (String base : List.of("/api/web/auth", "/api/mobile/auth")) {
+            check(post(base + "/validate-token").header(HttpHeaders.AUTHORIZATION, token));
+            check(post(base + "/logout").header(HttpHeaders.AUTHORIZATION, token));
+        }
+        check(post("/api/mobile/auth/refresh-token").header(HttpHeaders.AUTHORIZATION, token));
+        check(get("/api/mobile/auth/app-info"));
+        check(get("/api/ping"));
+        check(get("/api/heartbeat"));
+
+        // 쓰기 (게임 API 3종)
+        String gameJson = objectMapper.writeValueAsString(gameCreateDto());
+        String gameUpdateJson = objectMapper.writeValueAsString(Map.of("title", "짜장 vs 짬뽕 (수정)", "description", "설명"));
+        for (String base : List.of("/api/balance-games", "/api/web/balance-games", "/api/mobile/balance-games")) {
+            check(post(base).param("authorId", owner.getId().toString())
+                    .contentType(MediaType.APPLICATION_JSON).content(gameJson).with(user(ownerPrincipal)));
+            check(put(base + "/{id}", gameId)
+                    .contentType(MediaType.APPLICATION_JSON).content(gameUpdateJson).with(user(ownerPrincipal)));
+            check(post(base + "/{id}/like", gameId).param("userId", owner.getId().toString()).with(user(ownerPrincipal)));
+            check(delete(base + "/{id}", createGameWithContent(owner, voters)).with(user(ownerPrincipal)));
+        }
+
+        // 쓰기 (댓글/투표)
+        String commentJson = objectMapper.writeValueAsString(Map.of("content", "댓글", "balanceGameId", gameId,
+                "parentCommentId", parentId));
+        check(post("/api/comments").param("authorId", owner.getId().toString())
+                .contentType(MediaType.APPLICATION_JSON).content(commentJson).with(user(ownerPrincipal)));
+        check(put("/api/comments/{id}", parentId).contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("content", "수정한 댓글"))).with(user(ownerPrincipal)));
+        check(post("/api/comments/{id}/like", parentId).param("userId", owner.getId().toString()).with(user(ownerPrincipal)));
+        check(delete("/api/comments/{id}", parentIds.get(1)).with(user(ownerPrincipal)));
+        String voteJson = objectMapper.writeValueAsString(Map.of("selectedOption", "B", "balanceGameId", gameId));
+        check(post("/api/votes").param("userId", owner.getId().toString())
+                .contentType(MediaType.APPLICATION_JSON).content(voteJson).with(user(ownerPrincipal)));
+        check(put("/api/votes/{id}", voteId).contentType(MediaType.APPLICATION_JSON).content(voteJson).with(user(ownerPrincipal)));
+        check(delete("/api/votes/{id}", voteId).with(user(ownerPrincipal)));
+
+        // 쓰기 (사용자)
+        String profileJson = objectMapper.writeValueAsString(Map.of("nickname", "새닉네임", "bio", "소개"));
+        for (String base : List.of("/api/users", "/api/web/users", "/api/mobile/users")) {
+            User leaving = createUser(UserRole.USER);
+            check(put(base + "/{id}/profile", owner.getId())
+                    .contentType(MediaType.APPLICATION_JSON).content(profileJson).with(user(ownerPrincipal)));
+            check(delete(base + "/{id}", leaving.getId()).with(user(adminPrincipal)));
+            check(get(base + "/{id}/removal", leaving.getId()).with(user(adminPrincipal)));
+        }
+
+        Set<String> notExercised = new TreeSet<>();
+        apiHandlers().forEach((endpoint, handlerMethod) -> {
+            if (!exercised.contains(handlerMethod.getMethod())) {
+                notExercised.add(endpoint);
+            }
+        });
+        assertThat(exceeded).as("SQL 문장 예산 초과 (요청별 문장 수/예산)\n" + String.join("\n", results)).isEmpty();
+        assertThat(notExercised).as("이 테스트에서 호출하지 않은 엔드포인트").isEmpty();
+    }
+
+    @Test
+    void 투표_반영_묶음의_SQL_문장_수는_요청_수가_아닌_게임_수에_비례한다() throws Exception {
+        User owner = createUser(UserRole.USER);
+        List<Long> gameIds = List.of(createGame(owner), createGame(owner), createGame(owner));
+        List<User> voters = new ArrayList<>();
+        for (int i = 0; i < 15; i++) {
+            voters.add(createUser(UserRole.USER));
+        }
+
+        // 새 투표 (INSERT), 다른 옵션 선택 (UPDATE), 같은 옵션 재선택 (DELETE)을 각각 한 묶음으로 반영
+        int fewVotes = writerStatements(voters.subList(0, 1), gameIds, Vote.VoteOption.A);
+        int created = writerStatements(voters.subList(1, 15), gameIds, Vote.VoteOption.A);
+        int changed = writerStatements(voters.subList(1, 15), gameIds, Vote.VoteOption.B);
+        int cancelled = writerStatements(voters.subList(1, 15), gameIds, Vote.VoteOption.B);
+
+        // 사용자/게임/기존 투표 조회 3 + 배치 쓰기 1 + 게임별 통계 갱신 + 투표 ID 시퀀스 할당 1 (JDBC 배치 크기 50 이내)
+        int budget = 5 + gameIds.size();
+        assertThat(List.of(fewVotes, created, changed, cancelled))
+                .as("투표 반영 묶음의 SQL 문장 수 (요청 3개, 새 투표 42개, 변경 42개, 취소 42개)")
+                .allSatisfy(count -> assertThat(count).isLessThanOrEqualTo(budget));
+    }
+
+    /**
+     * 사용자마다 모든 게임에 투표하는 요청을 한 묶음으로 반영하고 작성 스레드에서 실행한 SQL 문장 수를 반환
+     * 요청을 모두 넣은 뒤 시작하는 별도 인스턴스를 써서 한 트랜잭션으로 묶이게 함
+     */
+    private int writerStatements(List<User> voters, List<Long> gameIds, Vote.VoteOption option) throws Exception {
+        VoteIngestionService ingestion = new VoteIngestionService(voteRepository, userRepository, balanceGameRepository,
+                gameStatsService, dtoConversionService, transactionManager, 1000, 1000, 5);
+        List<CompletableFuture<VoteResponseDto>> results = new ArrayList<>();
+        for (User voter : voters) {
+            for (Long gameId : gameIds) {
+                results.add(ingestion.submit(voter.getId(), gameId, option));
+            }
+        }
+        entityManagerFactory.getCache().evictAll();
+        StatementCounter.startThread(WRITER_THREAD);
+        try {
+            ingestion.start();
+            CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+        } finally {
+            ingestion.stop();
+        }
+        return StatementCounter.stopThread(WRITER_THREAD);
+    }
+
+    /**
+     * 요청을 실행하고 요청 스레드의 SQL 문장 수를 핸들러의 예산과 비교해 기록
+     */
+    private void check(MockHttpServletRequestBuilder request) throws Exception {
+        entityManagerFactory.getCache().evictAll();
+        StatementCounter.start();
+        MvcResult result;
+        int count;
+        try {
+            result = mockMvc.perform(request).andReturn();
+            if (result.getRequest().isAsyncStarted() && !isEventStream(result)) {
+                mockMvc.perform(asyncDispatch(result)).andReturn();
+            }
+        } finally {
+            count = StatementCounter.stop();
+        }
+
+        String endpoint = result.getRequest().getMethod() + " " + result.getRequest().getRequestURI()
+                + (result.getRequest().getQueryString() != null ? "?" + result.getRequest().getQueryString() : "");
+        assertThat(result.getResponse().getStatus()).as(endpoint).isLessThan(400);
+        assertThat(result.getHandler()).as(endpoint).isInstanceOf(HandlerMethod.class);
+        HandlerMethod handlerMethod = (HandlerMethod) result.getHandler();
+        exercised.add(handlerMethod.getMethod());
+
+        QueryBudget budget = budgetOf(handlerMethod);
+        String line = endpoint + ": " + count + "/" + (budget != null ? budget.value() : "-");
+        results.add(line);
+        if (budget != null && count > budget.value()) {
+            exceeded.add(line);
+        }
+    }
+
+    private static boolean isEventStream(MvcResult result) {
+        String contentType = result.getResponse().getContentType();
+        return contentType != null && contentType.startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+
+    private Map<String, HandlerMethod> apiHandlers() {
+        Map<String, HandlerMethod> handlers = new TreeMap<>();
+        handlerMapping.getHandlerMethods().forEach((info, handlerMethod) -> {
+            for (String pattern : info.getPatternValues()) {
+                if (pattern.startsWith("/api/")) {
+                    handlers.put(info.getMethodsCondition() + " " + pattern + " " + info.getParamsCondition(), handlerMethod);
+                }
+            }
+        });
+        return handlers;
+    }
+
+    private static QueryBudget budgetOf(HandlerMethod handlerMethod) {
+        QueryBudget budget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+        return budget != null ? budget : AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), QueryBudget.class);
+    }
+
+    private User createUser(UserRole role) {
+        String name = "budget" + SEQUENCE.incrementAndGet();
+        return userRepository.save(User.builder()
+                .username(name)
+                .email(name + "@example.com")
+                .nickname(name)
+                .role(role)
+                .provider(User.Provider.GOOGLE)
+                .build());
+    }
+
+    private Long createGame(User author) {
+        return balanceGameService.createGame(gameCreateDto(), author.getId()).getId();
+    }
+
+    private Long createGameWithContent(User owner, List<User> voters) throws Exception {
+        Long gameId = createGame(owner);
+        Long commentId = createComment(owner, gameId, null);
+        for (User voter : voters) {
+            voteIngestionService.submit(voter.getId(), gameId, Vote.VoteOption.B).get(5, TimeUnit.SECONDS);
+            likeService.toggleGameLike(voter.getId(), gameId);
+            createComment(voter, gameId, commentId);
+            likeService.toggleCommentLike(voter.getId(), commentId);
+        }
+        return gameId;
+    }
+
+    private static BalanceGameCreateDto gameCreateDto() {
+        BalanceGameCreateDto dto = new BalanceGameCreateDto();
+        dto.setTitle("짜장 vs 짬뽕");
+        dto.setOptionA("짜장");
+        dto.setOptionB("짬뽕");
+        return dto;
+    }
+
+    private Long createComment(User author, Long gameId, Long parentCommentId) throws Exception {
+        Map<String, Object> body = parentCommentId == null
+                ? Map.of("content", "댓글", "balanceGameId", gameId)
+                : Map.of("content", "답글", "balanceGameId", gameId, "parentCommentId", parentCommentId);
+        String response = mockMvc.perform(post("/api/comments")
+                        .param("authorId", author.getId().toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(body))
+                        .with(user(UserPrincipal.create(author))))
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).get("id").asLong();
+    }
+
+    /**
+     * DataSource를 감싸 문장 수를 세도록 등록
+     */
+    @TestConfiguration
+    static class StatementCountingConfig {
+
+        @Bean
+        static BeanPostProcessor statementCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? StatementCounter.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * 현재 스레드에서 준비(prepareStatement/prepareCall)되거나 직접 실행(Statement.execute*)된 JDBC 문장 수
+     * 배치로 묶인 INSERT는 준비 한 번이므로 한 문장으로 셈
+     */
+    static final class StatementCounter {
+
+        private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+        /** 이름으로 지정한 스레드의 문장 수 (요청 스레드 밖에서 실행되는 작업용) */
+        private static final Map<String, AtomicInteger> THREAD_COUNTS = new ConcurrentHashMap<>();
+
+        private StatementCounter() {
+        }
+
+        static void start() {
+            COUNT.set(new int[1]);
+        }
+
+        static int stop() {
+            int[] count = COUNT.get();
+            COUNT.remove();
+            return count != null ? count[0] : 0;
+        }
+
+        static void startThread(String threadName) {
+            THREAD_COUNTS.put(threadName, new AtomicInteger());
+        }
+
+        static int stopThread(String threadName) {
+            AtomicInteger count = THREAD_COUNTS.remove(threadName);
+            return count != null ? count.get() : 0;
+        }
+
+        private static void record() {
+            int[] count = COUNT.get();
+            if (count != null) {
+                count[0]++;
+            }
+            AtomicInteger threadCount = THREAD_COUNTS.get(Thread.currentThread().getName());
+            if (threadCount != null) {
+                threadCount.incrementAndGet();
+            }
+        }
+
+        static DataSource wrap(DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (method, result) ->
+                    result instanceof Connection connection ? wrap(connection) : result);
+        }
+
+        private static Connection wrap(Connection connection) {
+            return proxy(Connection.class, connection, (method, result) -> {
+                String name = method.getName();
+                if (name.equals("prepareStatement") || name.equals("prepareCall")) {
+                    record();
+                } else if (name.equals("createStatement")) {
+                    return wrap((Statement) result);
+                }
+                return result;
+            });
+        }
+
+        private static Statement wrap(Statement statement) {
+            return proxy(Statement.class, statement, (method, result) -> {
+                if (method.getName().startsWith("execute")) {
+                    record();
+                }
+                return result;
+            });
+        }
+
+        private interface AfterCall {
+            Object apply(Method method, Object result);
+        }
+
+        private static <T> T proxy(Class<T> type, T target, AfterCall afterCall) {
+            InvocationHandler handler = (proxy, method, args) -> {
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+                return afterCall.apply(method, result);
+            };
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+        }
+    }
+}
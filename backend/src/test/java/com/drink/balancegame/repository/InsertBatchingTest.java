@@ -0,0 +1,90 @@
+package com.drink.balancegame.repository;
+
+import com.drink.balancegame.entity.BalanceGame;
+import com.drink.balancegame.entity.Comment;
+import com.drink.balancegame.entity.Like;
+import com.drink.balancegame.entity.User;
+import com.drink.balancegame.entity.UserRole;
+import com.drink.balancegame.entity.Vote;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * INSERT 배치 테스트
+ * pooled-lo 시퀀스로 ID를 미리 할당하므로 여러 행 저장이 행 수가 아닌 배치 수만큼의 문장으로 묶이는지 확인
+ * (IDENTITY였다면 행마다 INSERT를 바로 실행해 문장 수가 행 수 이상)
+ */
+@DataJpaTest
+class InsertBatchingTest {
+
+    private static final int ROWS = 200;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void 투표_좋아요_댓글_저장은_배치로_묶인다() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            User user = User.builder()
+                    .username("user" + i)
+                    .email("user" + i + "@example.com")
+                    .nickname("사용자" + i)
+                    .role(UserRole.USER)
+                    .provider(User.Provider.GOOGLE)
+                    .build();
+            entityManager.persist(user);
+            users.add(user);
+        }
+        BalanceGame game = BalanceGame.builder()
+                .title("짜장 vs 짬뽕")
+                .optionA("짜장")
+                .optionB("짬뽕")
+                .viewCount(0)
+                .author(users.get(0))
+                .build();
+        entityManager.persist(game);
+        entityManager.flush();
+
+        statistics.clear();
+        for (int i = 0; i < ROWS; i++) {
+            User user = users.get(i);
+            entityManager.persist(Vote.builder()
+                    .user(user)
+                    .balanceGame(game)
+                    .selectedOption(i % 2 == 0 ? Vote.VoteOption.A : Vote.VoteOption.B)
+                    .build());
+            entityManager.persist(Like.builder()
+                    .user(user)
+                    .balanceGame(game)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+            entityManager.persist(Comment.builder()
+                    .author(user)
+                    .balanceGame(game)
+                    .content("댓글 " + i)
+                    .build());
+        }
+        entityManager.flush();
+
+        // 테이블별 배치 4개(50행씩) + 시퀀스 조회
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROWS * 3L);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(ROWS / 4);
+    }
+}
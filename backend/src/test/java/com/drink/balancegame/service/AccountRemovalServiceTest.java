@@ -0,0 +1,218 @@
+package com.drink.balancegame.service;
+
+import com.drink.balancegame.dto.AccountRemovalDto;
+import com.drink.balancegame.dto.BalanceGameCreateDto;
+import com.drink.balancegame.entity.User;
+import com.drink.balancegame.entity.UserRole;
+import com.drink.balancegame.entity.Vote;
+import com.drink.balancegame.repository.UserRepository;
+import com.drink.balancegame.security.UserPrincipal;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 회원 탈퇴 테스트
+ * 로컬 프로필(H2)에서 실제 투표/좋아요/댓글/게임을 만든 뒤 삭제 작업 결과와 게임 통계를 확인
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class AccountRemovalServiceTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BalanceGameService balanceGameService;
+
+    @Autowired
+    private VoteIngestionService voteIngestionService;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private AccountRemovalService accountRemovalService;
+
+    @Test
+    void 탈퇴하면_콘텐츠를_모두_지우고_다른_게임의_통계를_맞춘다() throws Exception {
+        User leaving = createUser(UserRole.USER);
+        User other = createUser(UserRole.USER);
+        Long otherGame = createGame(other);
+        Long ownGame = createGame(leaving);
+
+        voteIngestionService.submit(leaving.getId(), otherGame, Vote.VoteOption.A).get(5, TimeUnit.SECONDS);
+        voteIngestionService.submit(other.getId(), ownGame, Vote.VoteOption.B).get(5, TimeUnit.SECONDS);
+        likeService.toggleGameLike(leaving.getId(), otherGame);
+        Long comment = createComment(leaving, otherGame, null);
+        Long reply = createComment(other, otherGame, comment);
+        likeService.toggleCommentLike(other.getId(), comment);
+
+        accountRemovalService.requestRemoval(leaving.getId());
+        AccountRemovalDto progress = awaitFinished(leaving.getId());
+
+        assertThat(progress.getStatus()).isEqualTo("COMPLETED");
+        assertThat(progress.getLikesDeleted()).isEqualTo(1L);
+        assertThat(progress.getVotesDeleted()).isEqualTo(1L);
+        assertThat(progress.getCommentsDeleted()).isEqualTo(1L);
+        assertThat(progress.getGamesDeleted()).isEqualTo(1L);
+        assertThat(count("SELECT COUNT(*) FROM users WHERE id = ?", leaving.getId())).isZero();
+        assertThat(count("SELECT COUNT(*) FROM balance_games WHERE id = ?", ownGame)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM likes WHERE comment_id = ?", comment)).isZero();
+        // 다른 사용자의 답글은 최상위 댓글로 남음
+        assertThat(count("SELECT COUNT(*) FROM comments WHERE id = ? AND parent_comment_id IS NULL", reply)).isOne();
+
+        Map<String, Object> stats = jdbcTemplate.queryForMap(
+                "SELECT like_count, option_a_count, option_b_count, vote_count, comment_count FROM game_stats WHERE game_id = ?",
+                otherGame);
+        assertThat(stats).containsEntry("LIKE_COUNT", 0L)
+                .containsEntry("OPTION_A_COUNT", 0L)
+                .containsEntry("OPTION_B_COUNT", 0L)
+                .containsEntry("VOTE_COUNT", 0L)
+                .containsEntry("COMMENT_COUNT", 1L);
+    }
+
+    @Test
+    void 탈퇴_처리_중인_사용자의_쓰기는_거부한다() throws Exception {
+        User leaving = createUser(UserRole.USER);
+        User other = createUser(UserRole.USER);
+        Long game = createGame(other);
+        // 삭제 작업이 도는 중인 상태 (탈퇴 표시만 된 사용자)
+        jdbcTemplate.update("UPDATE users SET deleted_at = ? WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.now()), leaving.getId());
+        entityManagerFactory.getCache().evict(User.class, leaving.getId());
+
+        assertThatThrownBy(() -> voteIngestionService.submit(leaving.getId(), game, Vote.VoteOption.A).get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> likeService.toggleGameLike(leaving.getId(), game))
+                .isInstanceOf(EntityNotFoundException.class);
+        assertThatThrownBy(() -> balanceGameService.createGame(gameCreateDto(), leaving.getId()))
+                .isInstanceOf(EntityNotFoundException.class);
+        mockMvc.perform(post("/api/comments")
+                        .param("authorId", leaving.getId().toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("content", "댓글", "balanceGameId", game)))
+                        .with(user(UserPrincipal.create(other))))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/balance-games")
+                        .param("authorId", leaving.getId().toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(gameCreateDto())))
+                .andExpect(status().isBadRequest());
+
+        assertThat(count("SELECT COUNT(*) FROM votes WHERE user_id = ?", leaving.getId())).isZero();
+        assertThat(count("SELECT COUNT(*) FROM likes WHERE user_id = ?", leaving.getId())).isZero();
+        assertThat(count("SELECT COUNT(*) FROM comments WHERE author_id = ?", leaving.getId())).isZero();
+        assertThat(count("SELECT COUNT(*) FROM balance_games WHERE author_id = ?", leaving.getId())).isZero();
+    }
+
+    @Test
+    void 탈퇴_요청은_본인_또는_관리자만_할_수_있다() throws Exception {
+        User target = createUser(UserRole.USER);
+        User other = createUser(UserRole.USER);
+        User admin = createUser(UserRole.ADMIN);
+
+        mockMvc.perform(delete("/api/web/users/{id}", target.getId()))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(delete("/api/users/{id}", target.getId()).with(user(UserPrincipal.create(other))))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/mobile/users/{id}/removal", target.getId()).with(user(UserPrincipal.create(other))))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/users/{id}/removal", target.getId()).with(user(UserPrincipal.create(target))))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(delete("/api/mobile/users/{id}", target.getId()).with(user(UserPrincipal.create(admin))))
+                .andExpect(status().isAccepted());
+        assertThat(awaitFinished(target.getId()).getStatus()).isEqualTo("COMPLETED");
+    }
+
+    private User createUser(UserRole role) {
+        String name = "removal" + SEQUENCE.incrementAndGet();
+        return userRepository.save(User.builder()
+                .username(name)
+                .email(name + "@example.com")
+                .nickname(name)
+                .role(role)
+                .provider(User.Provider.GOOGLE)
+                .build());
+    }
+
+    private Long createGame(User author) {
+        return balanceGameService.createGame(gameCreateDto(), author.getId()).getId();
+    }
+
+    private static BalanceGameCreateDto gameCreateDto() {
+        BalanceGameCreateDto dto = new BalanceGameCreateDto();
+        dto.setTitle("짜장 vs 짬뽕");
+        dto.setOptionA("짜장");
+        dto.setOptionB("짬뽕");
+        return dto;
+    }
+
+    private Long createComment(User author, Long gameId, Long parentCommentId) throws Exception {
+        Map<String, Object> body = parentCommentId == null
+                ? Map.of("content", "댓글", "balanceGameId", gameId)
+                : Map.of("content", "답글", "balanceGameId", gameId, "parentCommentId", parentCommentId);
+        String response = mockMvc.perform(post("/api/comments")
+                        .param("authorId", author.getId().toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(body))
+                        .with(user(UserPrincipal.create(author))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).get("id").asLong();
+    }
+
+    private AccountRemovalDto awaitFinished(Long userId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            AccountRemovalDto progress = accountRemovalService.getProgress(userId).orElseThrow();
+            if ("COMPLETED".equals(progress.getStatus()) || "FAILED".equals(progress.getStatus())) {
+                return progress;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("회원 탈퇴 작업이 끝나지 않았습니다.");
+    }
+
+    private long count(String sql, Long id) {
+        return jdbcTemplate.queryForObject(sql, Long.class, id);
+    }
+}
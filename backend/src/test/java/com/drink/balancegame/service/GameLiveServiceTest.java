@@ -0,0 +1,105 @@
+package com.drink.balancegame.service;
+
+import com.drink.balancegame.entity.GameStats;
+import com.drink.balancegame.repository.GameStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 게임 실시간 집계 구독 테스트
+ * 전송 스레드는 시작하지 않고 구독과 좋아요 수 조회만 확인 (전송 주기는 pushChanges를 직접 호출)
+ */
+class GameLiveServiceTest {
+
+    private VoteTallyCache voteTallyCache;
+    private GameStatsRepository gameStatsRepository;
+    private GameLiveService gameLiveService;
+
+    @BeforeEach
+    void setUp() {
+        voteTallyCache = mock(VoteTallyCache.class);
+        when(voteTallyCache.get(anyLong())).thenReturn(new VoteTallyCache.Tally(0, 0));
+        gameStatsRepository = mock(GameStatsRepository.class);
+        when(gameStatsRepository.findById(anyLong())).thenAnswer(invocation ->
+                Optional.of(GameStats.builder().gameId(invocation.getArgument(0)).likeCount(3L).build()));
+        gameLiveService = new GameLiveService(voteTallyCache, gameStatsRepository, 60_000, 2, 250, 25_000);
+    }
+
+    @Test
+    void 같은_게임의_구독자는_채널을_공유해_좋아요_수를_한_번만_읽는다() {
+        assertThat(gameLiveService.subscribe(1L)).isPresent();
+        assertThat(gameLiveService.subscribe(1L)).isPresent();
+
+        verify(gameStatsRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void 좋아요가_바뀐_게임만_전송_주기마다_좋아요_수를_한_번_읽는다() {
+        gameLiveService = new GameLiveService(voteTallyCache, gameStatsRepository, 60_000, 10, 250, 25_000);
+        gameLiveService.subscribe(1L);
+        gameLiveService.subscribe(1L);
+        gameLiveService.subscribe(2L);
+        verify(gameStatsRepository, times(1)).findById(1L);
+
+        // 새 채널은 구독 시 읽은 뒤 커밋된 좋아요를 놓쳤을 수 있어 첫 주기에 한 번 더 읽음
+        gameLiveService.pushChanges();
+        verify(gameStatsRepository, times(2)).findById(1L);
+        verify(gameStatsRepository, times(2)).findById(2L);
+
+        gameLiveService.pushChanges();
+        verify(gameStatsRepository, times(2)).findById(1L);
+
+        gameLiveService.likeChanged(1L);
+        gameLiveService.likeChanged(1L);
+        gameLiveService.votesChanged(2L);
+        gameLiveService.pushChanges();
+        verify(gameStatsRepository, times(3)).findById(1L);
+        verify(gameStatsRepository, times(2)).findById(2L);
+    }
+
+    @Test
+    void 없는_게임은_구독자_수에_포함되지_않는다() {
+        when(gameStatsRepository.findById(9L)).thenReturn(Optional.empty());
+
+        assertThat(gameLiveService.subscribe(9L)).isEmpty();
+        assertThat(gameLiveService.subscribe(1L)).isPresent();
+        assertThat(gameLiveService.subscribe(2L)).isPresent();
+        assertThatThrownBy(() -> gameLiveService.subscribe(3L)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void 좋아요_수를_읽는_동안_같은_버킷의_다른_게임_구독이_막히지_않는다() throws Exception {
+        // 1과 17은 ConcurrentHashMap 기본 크기(16)에서 같은 버킷
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(gameStatsRepository.findById(1L)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return Optional.of(GameStats.builder().gameId(1L).build());
+        });
+
+        CompletableFuture<Optional<SseEmitter>> slow = CompletableFuture.supplyAsync(() -> gameLiveService.subscribe(1L));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        try {
+            CompletableFuture<Optional<SseEmitter>> other = CompletableFuture.supplyAsync(() -> gameLiveService.subscribe(17L));
+            assertThat(other.get(5, TimeUnit.SECONDS)).isPresent();
+        } finally {
+            release.countDown();
+        }
+        assertThat(slow.get(5, TimeUnit.SECONDS)).isPresent();
+    }
+}
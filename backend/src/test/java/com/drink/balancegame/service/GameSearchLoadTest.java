@@ -0,0 +1,62 @@
+package com.drink.balancegame.service;
+
+import com.drink.balancegame.dto.GameSummaryRow;
+import com.drink.balancegame.entity.BalanceGame;
+import com.drink.balancegame.entity.GameStats;
+import com.drink.balancegame.entity.User;
+import com.drink.balancegame.entity.UserRole;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게임 검색 시작 적재 테스트
+ * 직접 작성한 적재 SQL이 엔티티 매핑으로 만든 실제 스키마의 컬럼명과 맞는지 확인
+ */
+@DataJpaTest
+@Import(GameSearchService.class)
+class GameSearchLoadTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private GameSearchService gameSearchService;
+
+    @MockBean
+    private GameSuggestService gameSuggestService;
+
+    @Test
+    void 전체_적재는_엔티티_스키마에서_게임을_읽어_색인한다() {
+        User author = User.builder()
+                .username("author")
+                .email("author@example.com")
+                .nickname("작성자")
+                .role(UserRole.USER)
+                .provider(User.Provider.GOOGLE)
+                .build();
+        entityManager.persist(author);
+        BalanceGame game = BalanceGame.builder()
+                .title("점심 메뉴")
+                .optionA("짜장면")
+                .optionB("짬뽕")
+                .viewCount(0)
+                .author(author)
+                .build();
+        entityManager.persist(game);
+        entityManager.persist(GameStats.builder().gameId(game.getId()).build());
+        entityManager.flush();
+
+        gameSearchService.rebuild();
+
+        assertThat(gameSearchService.search("짬뽕", PageRequest.of(0, 10)).getContent())
+                .extracting(GameSummaryRow::id)
+                .containsExactly(game.getId());
+    }
+}
@@ -0,0 +1,168 @@
+package com.drink.balancegame.service;
+
+import com.drink.balancegame.dto.GameSummaryRow;
+import com.drink.balancegame.entity.BalanceGame;
+import com.drink.balancegame.repository.BalanceGameRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 게임 검색 색인 테스트
+ * 트랜잭션 밖에서 호출하므로 index/remove는 바로 반영됨
+ */
+class GameSearchServiceTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private BalanceGameRepository balanceGameRepository;
+    private GameSearchService gameSearchService;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("""
+                CREATE TABLE balance_games (
+                    id BIGINT PRIMARY KEY,
+                    title VARCHAR(255) NOT NULL,
+                    optiona VARCHAR(255) NOT NULL,
+                    optionb VARCHAR(255) NOT NULL,
+                    description TEXT
+                )
+                """);
+
+        balanceGameRepository = mock(BalanceGameRepository.class);
+        when(balanceGameRepository.findAllWithStatsByIdIn(anyList())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(GameSearchServiceTest::row).toList();
+        });
+        gameSearchService = searchService(1000, 48);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void 띄어쓰기와_상관없이_부분_일치하고_제목_일치가_먼저_나온다() {
+        insertGame(1L, "짜장 vs 짬뽕", "짜장면", "짬뽕", null);
+        insertGame(2L, "점심 메뉴", "김밥", "라면", "짜장면이 먹고 싶은 날");
+        insertGame(3L, "여름 휴가", "바다", "산", null);
+        gameSearchService.rebuild();
+
+        assertThat(search("짜장")).containsExactly(1L, 2L);
+        assertThat(search("짜장vs짬뽕")).containsExactly(1L);
+        assertThat(search("바")).containsExactly(3L);
+        assertThat(search("없는검색어")).isEmpty();
+    }
+
+    @Test
+    void 수정하면_이전_내용은_더_이상_검색되지_않는다() {
+        insertGame(1L, "짜장 vs 짬뽕", "짜장면", "짬뽕", null);
+        gameSearchService.rebuild();
+
+        gameSearchService.index(game(1L, "탕수육 부먹 찍먹", "부먹", "찍먹"));
+
+        assertThat(search("짜장")).isEmpty();
+        assertThat(search("탕수육")).containsExactly(1L);
+    }
+
+    @Test
+    void 삭제하면_검색되지_않고_다른_게임의_색인은_유지된다() {
+        gameSearchService.index(game(1L, "짜장 vs 짬뽕", "짜장면", "짬뽕"));
+        gameSearchService.index(game(2L, "짜장 vs 우동", "짜장면", "우동"));
+
+        gameSearchService.remove(1L);
+
+        assertThat(search("짜장")).containsExactly(2L);
+        assertThat(search("짬뽕")).isEmpty();
+
+        // 비워진 항목 번호를 재사용해도 기존 게임의 색인과 섞이지 않음
+        gameSearchService.index(game(3L, "짬뽕 vs 라면", "짬뽕", "라면"));
+        gameSearchService.remove(2L);
+        assertThat(search("짬뽕")).containsExactly(3L);
+        assertThat(search("짜장")).isEmpty();
+    }
+
+    @Test
+    void 설명_길이를_0으로_두면_제목과_선택지만_색인한다() {
+        gameSearchService = searchService(0, 48);
+        insertGame(1L, "점심 메뉴", "김밥", "라면", "짜장면이 먹고 싶은 날");
+        gameSearchService.rebuild();
+
+        assertThat(search("김밥")).containsExactly(1L);
+        assertThat(search("짜장면")).isEmpty();
+    }
+
+    @Test
+    void 색인이_메모리_예산을_넘으면_DB_검색으로_전환한다() {
+        gameSearchService = searchService(1000, 0);
+        insertGame(1L, "짜장 vs 짬뽕", "짜장면", "짬뽕", null);
+        gameSearchService.rebuild();
+        when(balanceGameRepository.searchWithStats(eq("짜장"), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(row(1L))));
+
+        assertThat(search(" 짜장 ")).containsExactly(1L);
+        // 꺼진 뒤에는 저장/삭제가 와도 색인을 다시 쌓지 않음
+        gameSearchService.index(game(2L, "짜장 vs 우동", "짜장면", "우동"));
+        assertThat(search("  ")).isEmpty();
+
+        verify(balanceGameRepository).searchWithStats(eq("짜장"), any(Pageable.class));
+        verify(balanceGameRepository, never()).findAllWithStatsByIdIn(anyList());
+    }
+
+    private GameSearchService searchService(int maxDescriptionLength, long maxIndexMb) {
+        return new GameSearchService(balanceGameRepository, jdbcTemplate, mock(GameSuggestService.class),
+                maxDescriptionLength, maxIndexMb);
+    }
+
+    private List<Long> search(String query) {
+        return gameSearchService.search(query, PageRequest.of(0, 10)).getContent().stream()
+                .map(GameSummaryRow::id)
+                .toList();
+    }
+
+    private void insertGame(Long id, String title, String optionA, String optionB, String description) {
+        jdbcTemplate.update("INSERT INTO balance_games (id, title, optiona, optionb, description) VALUES (?, ?, ?, ?, ?)",
+                id, title, optionA, optionB, description);
+    }
+
+    private static BalanceGame game(Long id, String title, String optionA, String optionB) {
+        return BalanceGame.builder()
+                .id(id)
+                .title(title)
+                .optionA(optionA)
+                .optionB(optionB)
+                .build();
+    }
+
+    private static GameSummaryRow row(Long id) {
+        LocalDateTime createdAt = LocalDateTime.now();
+        return new GameSummaryRow(id, "게임 " + id, "A", "B", 0, createdAt, createdAt,
+                1L, "user", "사용자", 0L, 0L, 0L, 0L);
+    }
+}
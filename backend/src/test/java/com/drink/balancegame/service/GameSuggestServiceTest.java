@@ -0,0 +1,144 @@
+package com.drink.balancegame.service;
+
+import com.drink.balancegame.dto.GameSuggestionDto;
+import com.drink.balancegame.dto.GameSummaryRow;
+import com.drink.balancegame.repository.BalanceGameRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 검색어 자동완성 테스트
+ * 저장소는 메모리 맵으로 대신하고, 증분 반영과 전체 재생성의 조회 횟수를 확인
+ */
+class GameSuggestServiceTest {
+
+    /** 게임 ID -> 요약 행 (balance_games + game_stats 대용) */
+    private final Map<Long, GameSummaryRow> games = new TreeMap<>();
+
+    private BalanceGameRepository balanceGameRepository;
+    private GameSuggestService gameSuggestService;
+
+    @BeforeEach
+    void setUp() {
+        balanceGameRepository = mock(BalanceGameRepository.class);
+        when(balanceGameRepository.findAllWithStatsAfterId(anyLong(), any())).thenAnswer(invocation -> {
+            Long afterId = invocation.getArgument(0);
+            return games.values().stream().filter(row -> row.id() > afterId).toList();
+        });
+        when(balanceGameRepository.findAllWithStatsByIdIn(anyList())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(games::get).filter(Objects::nonNull).toList();
+        });
+        gameSuggestService = new GameSuggestService(balanceGameRepository, 3_600_000);
+    }
+
+    @Test
+    void 제목_접두어와_초성으로_가중치_순서대로_찾는다() {
+        save(1L, "짜장 vs 짬뽕", 10);
+        save(2L, "짬뽕 vs 우동", 30);
+        save(3L, "여름 vs 겨울", 20);
+        gameSuggestService.rebuild();
+
+        assertThat(ids(gameSuggestService.suggest("짜장", 10))).containsExactly(1L);
+        assertThat(ids(gameSuggestService.suggest("짬뽕", 10))).containsExactly(2L, 1L);
+        assertThat(ids(gameSuggestService.suggest("ㅉㅃ", 10))).containsExactly(2L, 1L);
+        assertThat(ids(gameSuggestService.suggest("겨울", 10))).containsExactly(3L);
+    }
+
+    @Test
+    void 변경된_게임만_다시_읽어_반영한다() {
+        save(1L, "짜장 vs 짬뽕", 10);
+        save(2L, "짬뽕 vs 우동", 30);
+        save(3L, "여름 vs 겨울", 20);
+        gameSuggestService.rebuild();
+
+        save(1L, "탕수육 부먹 vs 찍먹", 10);
+        games.remove(2L);
+        save(4L, "짬뽕 vs 라면", 5);
+        List.of(1L, 2L, 4L).forEach(gameSuggestService::markDirty);
+        gameSuggestService.refresh();
+
+        assertThat(ids(gameSuggestService.suggest("짬뽕", 10))).containsExactly(4L);
+        assertThat(ids(gameSuggestService.suggest("탕수육", 10))).containsExactly(1L);
+        assertThat(ids(gameSuggestService.suggest("여름", 10))).containsExactly(3L);
+        verify(balanceGameRepository, times(1)).findAllWithStatsByIdIn(anyList());
+        verify(balanceGameRepository, times(1)).findAllWithStatsAfterId(anyLong(), any());
+    }
+
+    @Test
+    void 증분_반영된_게임은_기존_게임과_가중치_순서로_섞인다() {
+        save(1L, "짜장 vs 짬뽕", 10);
+        save(2L, "짜장 vs 우동", 30);
+        gameSuggestService.rebuild();
+
+        save(1L, "짜장 vs 짬뽕", 50);
+        save(3L, "짜장 vs 라면", 20);
+        gameSuggestService.markDirty(1L);
+        gameSuggestService.markDirty(3L);
+        gameSuggestService.applyChanges();
+
+        assertThat(ids(gameSuggestService.suggest("짜장", 10))).containsExactly(1L, 2L, 3L);
+        assertThat(ids(gameSuggestService.suggest("짜장", 2))).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void 미리_계산한_짧은_접두어_목록에서_제외된_게임이_있으면_나머지_후보를_채운다() {
+        for (long id = 1; id <= 25; id++) {
+            save(id, "짜장 게임 " + id, id);
+        }
+        gameSuggestService.rebuild();
+
+        for (long id = 23; id <= 25; id++) {
+            games.remove(id);
+            gameSuggestService.markDirty(id);
+        }
+        gameSuggestService.applyChanges();
+
+        List<Long> expected = new ArrayList<>();
+        for (long id = 22; id >= 3; id--) {
+            expected.add(id);
+        }
+        assertThat(ids(gameSuggestService.suggest("짜", 20))).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void 변경분이_많이_쌓이면_전체를_다시_생성한다() {
+        save(1L, "짜장 vs 짬뽕", 10);
+        gameSuggestService.rebuild();
+
+        for (long id = 2; id <= 1002; id++) {
+            save(id, "게임 " + id, 1);
+            gameSuggestService.markDirty(id);
+        }
+        gameSuggestService.refresh();
+
+        verify(balanceGameRepository, times(2)).findAllWithStatsAfterId(anyLong(), any());
+        assertThat(ids(gameSuggestService.suggest("게임 1002", 10))).containsExactly(1002L);
+    }
+
+    private void save(Long id, String title, long weight) {
+        LocalDateTime createdAt = LocalDateTime.now();
+        games.put(id, new GameSummaryRow(id, title, "A", "B", (int) weight, createdAt, createdAt,
+                1L, "user", "사용자", 0L, 0L, 0L, 0L));
+    }
+
+    private static List<Long> ids(List<GameSuggestionDto> suggestions) {
+        return suggestions.stream().map(GameSuggestionDto::getId).toList();
+    }
+}
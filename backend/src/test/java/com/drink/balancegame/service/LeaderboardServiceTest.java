@@ -0,0 +1,178 @@
+package com.drink.balancegame.service;
+
+import com.drink.balancegame.dto.GameSummaryRow;
+import com.drink.balancegame.repository.BalanceGameRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 기간별 베스트 리더보드 테스트
+ * 재동기화 쿼리는 로컬 프로필과 같은 H2에서 실제로 실행
+ */
+class LeaderboardServiceTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private LeaderboardService leaderboardService;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("""
+                CREATE TABLE likes (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    balance_game_id BIGINT,
+                    created_at TIMESTAMP NOT NULL
+                )
+                """);
+        leaderboardService = new LeaderboardService(balanceGameRepository(), jdbcTemplate, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void 재동기화는_likes_테이블을_기간별로_집계한다() {
+        LocalDateTime now = LocalDateTime.now();
+        insertLike(1L, now.minusMinutes(5));
+        insertLike(1L, now.minusHours(30));
+        insertLike(2L, now.minusHours(2));
+        insertLike(2L, now.minusHours(3));
+        insertLike(3L, now.minusDays(40));
+
+        leaderboardService.resync();
+
+        assertThat(best("daily")).containsExactly("2:2", "1:1");
+        assertThat(best("weekly")).containsExactly("2:2", "1:2");
+        assertThat(best("monthly")).containsExactly("2:2", "1:2");
+    }
+
+    @Test
+    void 재동기화_조회_전에_커밋된_좋아요는_한_번만_센다() {
+        insertLike(1L, LocalDateTime.now().minusMinutes(5));
+        useRacingTemplate(() -> {
+            // 조회 전에 커밋됐지만 커밋 후 반영이 재동기화 시작 뒤에 도착한 좋아요 (조회 결과에 이미 있음)
+            insertLike(2L, LocalDateTime.now());
+            leaderboardService.recordLike(2L, 1);
+        }, () -> { });
+
+        leaderboardService.resync();
+
+        assertThat(best("daily")).containsExactlyInAnyOrder("1:1", "2:1");
+    }
+
+    @Test
+    void 재동기화_조회_뒤에_커밋된_좋아요는_다음_재동기화에서_반영된다() {
+        insertLike(1L, LocalDateTime.now().minusMinutes(5));
+        useRacingTemplate(() -> { }, () -> {
+            // 조회가 끝난 뒤 교체 전에 커밋된 좋아요 (조회 결과에는 없음)
+            insertLike(2L, LocalDateTime.now());
+            leaderboardService.recordLike(2L, 1);
+        });
+
+        leaderboardService.resync();
+        assertThat(best("daily")).containsExactly("1:1");
+
+        leaderboardService.resync();
+        assertThat(best("daily")).containsExactlyInAnyOrder("1:1", "2:1");
+    }
+
+    @Test
+    void 재동기화_조회_중에_삭제된_게임은_교체_후에도_빠진다() {
+        insertLike(1L, LocalDateTime.now().minusMinutes(5));
+        insertLike(2L, LocalDateTime.now().minusMinutes(5));
+        useRacingTemplate(() -> { }, () -> {
+            // 조회 결과에는 남아 있는 게임의 삭제
+            jdbcTemplate.update("DELETE FROM likes WHERE balance_game_id = ?", 2L);
+            leaderboardService.removeGame(2L);
+        });
+
+        leaderboardService.resync();
+
+        assertThat(best("daily")).containsExactly("1:1");
+    }
+
+    @Test
+    void 좋아요_취소와_게임_삭제를_반영한다() {
+        leaderboardService.recordLike(1L, 1);
+        leaderboardService.recordLike(1L, 1);
+        leaderboardService.recordLike(2L, 1);
+        leaderboardService.recordLike(1L, -1);
+        leaderboardService.rebuild();
+        assertThat(best("daily")).containsExactly("2:1", "1:1");
+
+        leaderboardService.removeGame(2L);
+        leaderboardService.rebuild();
+        assertThat(best("daily")).containsExactly("1:1");
+    }
+
+    /**
+     * 재동기화 조회 직전/직후에 커밋이 끼어드는 상황 재현 (첫 조회에서만)
+     */
+    private void useRacingTemplate(Runnable beforeQuery, Runnable afterQuery) {
+        AtomicBoolean raced = new AtomicBoolean();
+        JdbcTemplate racingTemplate = new JdbcTemplate(database) {
+            @Override
+            public void query(String sql, RowCallbackHandler rch, Object... args) {
+                boolean first = raced.compareAndSet(false, true);
+                if (first) {
+                    beforeQuery.run();
+                }
+                super.query(sql, rch, args);
+                if (first) {
+                    afterQuery.run();
+                }
+            }
+        };
+        leaderboardService = new LeaderboardService(balanceGameRepository(), racingTemplate, 100);
+    }
+
+    private List<String> best(String period) {
+        return leaderboardService.findBestGames(PageRequest.of(0, 10), period).getContent().stream()
+                .map(row -> row.id() + ":" + row.periodLikeCount())
+                .toList();
+    }
+
+    private void insertLike(Long gameId, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO likes (balance_game_id, created_at) VALUES (?, ?)",
+                gameId, Timestamp.valueOf(createdAt));
+    }
+
+    private static BalanceGameRepository balanceGameRepository() {
+        BalanceGameRepository balanceGameRepository = mock(BalanceGameRepository.class);
+        when(balanceGameRepository.findAllWithStatsByIdIn(anyList())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(LeaderboardServiceTest::row).toList();
+        });
+        return balanceGameRepository;
+    }
+
+    private static GameSummaryRow row(Long id) {
+        LocalDateTime createdAt = LocalDateTime.now();
+        return new GameSummaryRow(id, "게임 " + id, "A", "B", 0, createdAt, createdAt,
+                1L, "user", "사용자", 0L, 0L, 0L, 0L);
+    }
+}
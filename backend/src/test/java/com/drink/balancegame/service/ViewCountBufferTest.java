@@ -0,0 +1,124 @@
+package com.drink.balancegame.service;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 조회수 쓰기 지연 버퍼 테스트
+ * 증가와 반영이 동시에 일어나도 조회수가 유실되거나 중복 반영되지 않는지 확인
+ */
+class ViewCountBufferTest {
+
+    private static final int GAMES = 8;
+
+    private final ConcurrentHashMap<Long, LongAdder> flushed = new ConcurrentHashMap<>();
+    private final AtomicBoolean failNextFlush = new AtomicBoolean();
+    private ViewCountBuffer viewCountBuffer;
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            if (failNextFlush.getAndSet(false)) {
+                throw new IllegalStateException("DB 오류");
+            }
+            List<Object[]> batch = invocation.getArgument(1);
+            for (Object[] row : batch) {
+                flushed.computeIfAbsent((Long) row[1], id -> new LongAdder()).add((Long) row[0]);
+            }
+            return new int[batch.size()];
+        });
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.getCache()).thenReturn(mock(Cache.class));
+        viewCountBuffer = new ViewCountBuffer(jdbcTemplate, mock(PlatformTransactionManager.class), entityManagerFactory);
+    }
+
+    @Test
+    void 반영된_조회수와_대기분의_합은_증가_횟수와_같다() {
+        viewCountBuffer.increment(1L);
+        viewCountBuffer.increment(1L);
+        viewCountBuffer.increment(2L);
+
+        viewCountBuffer.flush();
+        viewCountBuffer.increment(1L);
+
+        assertThat(flushed.get(1L).sum()).isEqualTo(2);
+        assertThat(flushed.get(2L).sum()).isEqualTo(1);
+        assertThat(viewCountBuffer.pendingDelta(1L)).isEqualTo(1);
+        assertThat(viewCountBuffer.pendingDelta(2L)).isZero();
+        assertThat(viewCountBuffer.merge(1L, 10)).isEqualTo(11);
+    }
+
+    @Test
+    void 반영이_실패하면_대기분이_남아_다음_주기에_반영된다() {
+        viewCountBuffer.increment(1L);
+        failNextFlush.set(true);
+
+        viewCountBuffer.flush();
+        assertThat(viewCountBuffer.pendingDelta(1L)).isEqualTo(1);
+
+        viewCountBuffer.flush();
+        assertThat(flushed.get(1L).sum()).isEqualTo(1);
+        assertThat(viewCountBuffer.pendingDelta(1L)).isZero();
+    }
+
+    @Test
+    void 반영_중에_동시에_증가해도_조회수가_유실되지_않는다() throws Exception {
+        int threads = 8;
+        int incrementsPerThread = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        Thread flusher = new Thread(() -> {
+            while (running.get()) {
+                viewCountBuffer.flush();
+            }
+        });
+        flusher.start();
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < incrementsPerThread; i++) {
+                    viewCountBuffer.increment((long) (i % GAMES));
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        running.set(false);
+        flusher.join();
+        viewCountBuffer.flush();
+
+        long total = flushed.values().stream().mapToLong(LongAdder::sum).sum();
+        assertThat(total).isEqualTo((long) threads * incrementsPerThread);
+        for (long gameId = 0; gameId < GAMES; gameId++) {
+            assertThat(viewCountBuffer.pendingDelta(gameId)).isZero();
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package com.drink.balancegame.service;
+
+import com.drink.balancegame.dto.VoteDto;
+import com.drink.balancegame.dto.VoteResponseDto;
+import com.drink.balancegame.entity.BalanceGame;
+import com.drink.balancegame.entity.User;
+import com.drink.balancegame.entity.Vote;
+import com.drink.balancegame.repository.BalanceGameRepository;
+import com.drink.balancegame.repository.UserRepository;
+import com.drink.balancegame.repository.VoteRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 투표 일괄 반영(group commit) 테스트
+ * 저장소는 트랜잭션 커밋 시에만 반영되는 메모리 맵으로 대신해 묶음 실패 시 롤백까지 흉내 냄
+ */
+class VoteIngestionServiceTest {
+
+    private static final int USERS = 20;
+    private static final int GAMES = 4;
+
+    /** 커밋된 투표 ("사용자:게임" -> 투표) */
+    private final Map<String, Vote> committed = new ConcurrentHashMap<>();
+    /** 게임별 반영된 투표 수 변화 [A, B] */
+    private final Map<Long, long[]> recordedDeltas = new ConcurrentHashMap<>();
+    private final AtomicInteger transactions = new AtomicInteger();
+    private final AtomicLong voteIds = new AtomicLong();
+
+    /** 진행 중인 트랜잭션에서 읽은/추가한/삭제한 투표 (작성 스레드 하나에서만 사용) */
+    private final List<Vote> loaded = new ArrayList<>();
+    private final List<Vote> inserted = new ArrayList<>();
+    private final List<Vote> deleted = new ArrayList<>();
+
+    /** saveAll이 실패할 투표 조건 (DB 제약 위반 대용) */
+    private Predicate<Vote> failOnSave = vote -> false;
+
+    private VoteRepository voteRepository;
+    private UserRepository userRepository;
+    private BalanceGameRepository balanceGameRepository;
+    private GameStatsService gameStatsService;
+    private DtoConversionService dtoConversionService;
+    private PlatformTransactionManager transactionManager;
+    private VoteIngestionService voteIngestionService;
+
+    @BeforeEach
+    void setUp() {
+        voteRepository = mock(VoteRepository.class);
+        when(voteRepository.findByUserIdInAndBalanceGameIdIn(any(), any())).thenAnswer(invocation -> {
+            Collection<Long> userIds = invocation.getArgument(0);
+            Collection<Long> gameIds = invocation.getArgument(1);
+            List<Vote> found = new ArrayList<>();
+            committed.values().stream()
+                    .filter(vote -> userIds.contains(vote.getUser().getId())
+                            && gameIds.contains(vote.getBalanceGame().getId()))
+                    .map(VoteIngestionServiceTest::copy)
+                    .forEach(found::add);
+            loaded.addAll(found);
+            return found;
+        });
+        when(voteRepository.saveAll(anyIterable())).thenAnswer(invocation -> {
+            List<Vote> votes = new ArrayList<>();
+            invocation.<Iterable<Vote>>getArgument(0).forEach(votes::add);
+            if (votes.stream().anyMatch(failOnSave)) {
+                throw new IllegalStateException("제약 조건 위반");
+            }
+            votes.forEach(vote -> vote.setId(voteIds.incrementAndGet()));
+            inserted.addAll(votes);
+            return votes;
+        });
+        doAnswer(invocation -> {
+            invocation.<Iterable<Vote>>getArgument(0).forEach(deleted::add);
+            return null;
+        }).when(voteRepository).deleteAll(anyIterable());
+
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findAllByIdInAndDeletedAtIsNull(anyCollection())).thenAnswer(invocation -> {
+            List<User> users = new ArrayList<>();
+            for (Long id : invocation.<Iterable<Long>>getArgument(0)) {
+                if (id <= USERS) {
+                    users.add(User.builder().id(id).build());
+                }
+            }
+            return users;
+        });
+        balanceGameRepository = mock(BalanceGameRepository.class);
+        when(balanceGameRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            List<BalanceGame> games = new ArrayList<>();
+            for (Long id : invocation.<Iterable<Long>>getArgument(0)) {
+                if (id <= GAMES) {
+                    games.add(BalanceGame.builder().id(id).build());
+                }
+            }
+            return games;
+        });
+
+        gameStatsService = mock(GameStatsService.class);
+        doAnswer(invocation -> {
+            long[] delta = recordedDeltas.computeIfAbsent(invocation.getArgument(0), id -> new long[2]);
+            delta[0] += invocation.<Long>getArgument(1);
+            delta[1] += invocation.<Long>getArgument(2);
+            return null;
+        }).when(gameStatsService).recordVotes(anyLong(), anyLong(), anyLong());
+        dtoConversionService = mock(DtoConversionService.class);
+        when(dtoConversionService.convertToVoteDto(any())).thenAnswer(invocation -> new VoteDto());
+
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> {
+            transactions.incrementAndGet();
+            loaded.clear();
+            inserted.clear();
+            deleted.clear();
+            return new SimpleTransactionStatus();
+        });
+        doAnswer(invocation -> {
+            // 읽은 투표의 변경(더티 체킹), 삭제, 추가 순서로 반영
+            loaded.forEach(vote -> committed.put(key(vote), vote));
+            deleted.forEach(vote -> committed.remove(key(vote)));
+            inserted.forEach(vote -> committed.put(key(vote), vote));
+            return null;
+        }).when(transactionManager).commit(any());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (voteIngestionService != null) {
+            voteIngestionService.stop();
+        }
+    }
+
+    @Test
+    void 같은_묶음의_요청은_순서대로_적용하고_최종_상태만_반영한다() throws Exception {
+        voteIngestionService = service(100, 200, 5);
+        CompletableFuture<VoteResponseDto> created = voteIngestionService.submit(1L, 1L, Vote.VoteOption.A);
+        CompletableFuture<VoteResponseDto> cancelled = voteIngestionService.submit(1L, 1L, Vote.VoteOption.A);
+        CompletableFuture<VoteResponseDto> recreated = voteIngestionService.submit(1L, 1L, Vote.VoteOption.B);
+        voteIngestionService.start();
+
+        assertThat(created.get(5, TimeUnit.SECONDS).getVote().getSelectedOption()).isEqualTo("A");
+        assertThat(cancelled.get(5, TimeUnit.SECONDS).getVote()).isNull();
+        assertThat(recreated.get(5, TimeUnit.SECONDS).getVote().getSelectedOption()).isEqualTo("B");
+        assertThat(transactions.get()).isEqualTo(1);
+        assertThat(committed).containsOnlyKeys("1:1");
+        assertThat(committed.get("1:1").getSelectedOption()).isEqualTo(Vote.VoteOption.B);
+        assertThat(recordedDeltas.get(1L)).containsExactly(0, 1);
+    }
+
+    @Test
+    void 기존_투표의_변경과_취소를_반영한다() throws Exception {
+        voteIngestionService = service(100, 200, 5);
+        voteIngestionService.start();
+        voteIngestionService.submit(1L, 1L, Vote.VoteOption.A).get(5, TimeUnit.SECONDS);
+        voteIngestionService.submit(2L, 1L, Vote.VoteOption.A).get(5, TimeUnit.SECONDS);
+
+        voteIngestionService.submit(1L, 1L, Vote.VoteOption.B).get(5, TimeUnit.SECONDS);
+        voteIngestionService.submit(2L, 1L, Vote.VoteOption.A).get(5, TimeUnit.SECONDS);
+
+        assertThat(committed).containsOnlyKeys("1:1");
+        assertThat(committed.get("1:1").getSelectedOption()).isEqualTo(Vote.VoteOption.B);
+        assertThat(recordedDeltas.get(1L)).containsExactly(0, 1);
+    }
+
+    @Test
+    void 동시에_들어온_요청을_묶어_반영하고_집계는_최종_투표와_일치한다() throws Exception {
+        voteIngestionService = service(10_000, 200, 20);
+        voteIngestionService.start();
+
+        int requests = 2000;
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+        List<CompletableFuture<VoteResponseDto>> results = new ArrayList<>();
+        try {
+            List<Future<CompletableFuture<VoteResponseDto>>> submitted = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                long userId = i % USERS + 1;
+                long gameId = i / USERS % GAMES + 1;
+                Vote.VoteOption option = i % 3 == 0 ? Vote.VoteOption.B : Vote.VoteOption.A;
+                submitted.add(clients.submit(() -> voteIngestionService.submit(userId, gameId, option)));
+            }
+            for (Future<CompletableFuture<VoteResponseDto>> future : submitted) {
+                results.add(future.get());
+            }
+        } finally {
+            clients.shutdown();
+        }
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+        assertThat(transactions.get()).isLessThan(requests);
+        for (long gameId = 1; gameId <= GAMES; gameId++) {
+            long id = gameId;
+            long optionA = committed.values().stream()
+                    .filter(vote -> vote.getBalanceGame().getId() == id && vote.getSelectedOption() == Vote.VoteOption.A)
+                    .count();
+            long optionB = committed.values().stream()
+                    .filter(vote -> vote.getBalanceGame().getId() == id && vote.getSelectedOption() == Vote.VoteOption.B)
+                    .count();
+            assertThat(recordedDeltas.getOrDefault(gameId, new long[2])).containsExactly(optionA, optionB);
+        }
+    }
+
+    @Test
+    void 없는_사용자의_요청만_실패하고_같은_묶음의_다른_요청은_반영된다() throws Exception {
+        voteIngestionService = service(100, 200, 5);
+        CompletableFuture<VoteResponseDto> unknownUser = voteIngestionService.submit(999L, 1L, Vote.VoteOption.A);
+        CompletableFuture<VoteResponseDto> valid = voteIngestionService.submit(1L, 1L, Vote.VoteOption.A);
+        voteIngestionService.start();
+
+        assertThat(valid.get(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        assertThatThrownBy(() -> unknownUser.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThat(transactions.get()).isEqualTo(1);
+        assertThat(committed).containsOnlyKeys("1:1");
+    }
+
+    @Test
+    void 묶음이_실패하면_요청별로_다시_반영해_실패를_해당_요청에만_전달한다() throws Exception {
+        failOnSave = vote -> vote.getBalanceGame().getId() == 2L;
+        voteIngestionService = service(100, 200, 5);
+        CompletableFuture<VoteResponseDto> first = voteIngestionService.submit(1L, 1L, Vote.VoteOption.A);
+        CompletableFuture<VoteResponseDto> failing = voteIngestionService.submit(1L, 2L, Vote.VoteOption.A);
+        CompletableFuture<VoteResponseDto> third = voteIngestionService.submit(2L, 1L, Vote.VoteOption.B);
+        voteIngestionService.start();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        assertThat(third.get(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        assertThatThrownBy(() -> failing.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        // 묶음 1회 + 요청별 재시도 3회
+        assertThat(transactions.get()).isEqualTo(4);
+        assertThat(committed).containsOnlyKeys("1:1", "2:1");
+    }
+
+    @Test
+    void 큐가_가득_차면_즉시_실패한다() {
+        voteIngestionService = service(1, 200, 5);
+        voteIngestionService.submit(1L, 1L, Vote.VoteOption.A);
+
+        assertThatThrownBy(() -> voteIngestionService.submit(2L, 1L, Vote.VoteOption.A).get())
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void 종료할_때_큐에_남은_요청까지_반영한다() throws Exception {
+        voteIngestionService = service(100, 2, 5);
+        List<CompletableFuture<VoteResponseDto>> results = new ArrayList<>();
+        for (long userId = 1; userId <= 5; userId++) {
+            results.add(voteIngestionService.submit(userId, 1L, Vote.VoteOption.A));
+        }
+        voteIngestionService.start();
+        voteIngestionService.stop();
+
+        for (CompletableFuture<VoteResponseDto> result : results) {
+            assertThat(result).isCompleted();
+        }
+        assertThat(committed).hasSize(5);
+        assertThatThrownBy(() -> voteIngestionService.submit(6L, 1L, Vote.VoteOption.A).get())
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    private VoteIngestionService service(int queueCapacity, int maxBatchSize, long maxWaitMs) {
+        return new VoteIngestionService(voteRepository, userRepository, balanceGameRepository, gameStatsService,
+                dtoConversionService, transactionManager, queueCapacity, maxBatchSize, maxWaitMs);
+    }
+
+    private static String key(Vote vote) {
+        return vote.getUser().getId() + ":" + vote.getBalanceGame().getId();
+    }
+
+    private static Vote copy(Vote vote) {
+        return Vote.builder()
+                .id(vote.getId())
+                .selectedOption(vote.getSelectedOption())
+                .user(vote.getUser())
+                .balanceGame(vote.getBalanceGame())
+                .build();
+    }
+}
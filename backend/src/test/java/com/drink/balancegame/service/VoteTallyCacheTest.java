@@ -0,0 +1,141 @@
+package com.drink.balancegame.service;
+
+import com.drink.balancegame.repository.VoteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 게임별 투표 집계 캐시 테스트
+ * 트랜잭션 밖에서 호출하면 apply/evict는 바로 반영됨 (트랜잭션 동기화는 직접 열고 닫아서 재현)
+ */
+class VoteTallyCacheTest {
+
+    private VoteRepository voteRepository;
+    private VoteTallyCache voteTallyCache;
+
+    /** 적재(DB 조회) 도중 실행할 작업 */
+    private final AtomicReference<Runnable> duringLoad = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() {
+        voteRepository = mock(VoteRepository.class);
+        when(voteRepository.getVoteStatsByGameIds(anyList())).thenAnswer(invocation -> {
+            Runnable action = duringLoad.getAndSet(null);
+            if (action != null) {
+                action.run();
+            }
+            List<Long> gameIds = invocation.getArgument(0);
+            Long gameId = gameIds.get(0);
+            return Map.of(gameId, new DtoConversionService.VoteStats(3L, 2L, 5L));
+        });
+        voteTallyCache = new VoteTallyCache(voteRepository, 2);
+    }
+
+    @Test
+    void 한_번_적재한_뒤에는_증분으로_갱신한다() {
+        assertThat(voteTallyCache.get(1L).getTotal()).isEqualTo(5);
+
+        voteTallyCache.apply(1L, 1, -1);
+        VoteTallyCache.Tally tally = voteTallyCache.get(1L);
+
+        assertThat(tally.getOptionA()).isEqualTo(4);
+        assertThat(tally.getOptionB()).isEqualTo(1);
+        verify(voteRepository, times(1)).getVoteStatsByGameIds(anyList());
+    }
+
+    @Test
+    void 적재_도중_같은_게임에_투표가_반영되면_캐시하지_않는다() {
+        duringLoad.set(() -> voteTallyCache.apply(1L, 1, 0));
+
+        voteTallyCache.get(1L);
+        voteTallyCache.get(1L);
+
+        verify(voteRepository, times(2)).getVoteStatsByGameIds(anyList());
+    }
+
+    @Test
+    void 적재_도중_다른_게임의_투표는_캐시를_막지_않는다() {
+        duringLoad.set(() -> voteTallyCache.apply(2L, 1, 0));
+
+        voteTallyCache.get(1L);
+        voteTallyCache.get(1L);
+
+        verify(voteRepository, times(1)).getVoteStatsByGameIds(List.of(1L));
+    }
+
+    @Test
+    void 커밋_전인_투표가_있는_게임은_트랜잭션이_끝날_때까지_캐시하지_않는다() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            voteTallyCache.apply(1L, 1, 0);
+            // 적재 결과(3/2)에 이 투표가 들어 있는지 알 수 없으므로 캐시하면 커밋 후 증분이 중복될 수 있음
+            voteTallyCache.get(1L);
+            voteTallyCache.get(1L);
+            verify(voteRepository, times(2)).getVoteStatsByGameIds(List.of(1L));
+
+            TransactionSynchronizationUtils.triggerAfterCommit();
+            TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        voteTallyCache.get(1L);
+        VoteTallyCache.Tally tally = voteTallyCache.get(1L);
+
+        assertThat(tally.getOptionA()).isEqualTo(3);
+        verify(voteRepository, times(3)).getVoteStatsByGameIds(List.of(1L));
+    }
+
+    @Test
+    void 롤백된_투표도_트랜잭션이_끝나면_캐시를_막지_않는다() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            voteTallyCache.apply(1L, 1, 0);
+            TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        voteTallyCache.get(1L);
+        voteTallyCache.get(1L);
+
+        verify(voteRepository, times(1)).getVoteStatsByGameIds(List.of(1L));
+    }
+
+    @Test
+    void 제거하면_다음_조회에서_다시_적재한다() {
+        voteTallyCache.get(1L);
+        voteTallyCache.evict(1L);
+        voteTallyCache.get(1L);
+
+        verify(voteRepository, times(2)).getVoteStatsByGameIds(List.of(1L));
+    }
+
+    @Test
+    void 최대_개수를_넘으면_가장_오래_사용하지_않은_게임부터_제거한다() {
+        voteTallyCache.get(1L);
+        voteTallyCache.get(2L);
+        voteTallyCache.get(1L);
+        voteTallyCache.get(3L);
+
+        voteTallyCache.get(1L);
+        voteTallyCache.get(2L);
+
+        verify(voteRepository, times(1)).getVoteStatsByGameIds(List.of(1L));
+        verify(voteRepository, times(2)).getVoteStatsByGameIds(List.of(2L));
+    }
+}